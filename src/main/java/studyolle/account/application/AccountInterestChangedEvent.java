@@ -0,0 +1,14 @@
+package studyolle.account.application;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 계정의 관심분야 또는 활동지역이 변경되었음을 알리는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccountInterestChangedEvent {
+
+    private final Long accountId;
+}
@@ -1,6 +1,7 @@
 package studyolle.account.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,6 +23,9 @@ import studyolle.account.dto.NicknameForm;
 import studyolle.account.dto.Notifications;
 import studyolle.account.dto.Profile;
 import studyolle.common.email.EmailMessage;
+import studyolle.common.image.ImageStore;
+import studyolle.common.image.ImageVariant;
+import studyolle.common.image.ImageVariantGenerator;
 import studyolle.common.email.EmailService;
 import studyolle.config.AppProperties;
 import studyolle.tag.domain.Tag;
@@ -43,6 +47,10 @@ public class AccountService implements UserDetailsService {
     private final AppProperties appProperties;
 
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PrincipalCache principalCache;
+    private final ImageStore imageStore;
+    private final ImageVariantGenerator imageVariantGenerator;
 
     /**
      * 유저 정보 저장
@@ -50,7 +58,9 @@ public class AccountService implements UserDetailsService {
      * @return
      */
     public Account save(SignUpForm signUpForm) {
-        return this.accountRepository.save(signUpForm.toAccount().encodePassword(this.passwordEncoder));
+        Account account = this.accountRepository.save(signUpForm.toAccount().encodePassword(this.passwordEncoder));
+        this.principalCache.evict(account);
+        return account;
     }
 
     /**
@@ -90,6 +100,7 @@ public class AccountService implements UserDetailsService {
         if(account.isPresent()
                 && (checkedAccount = account.get()).isValidEmailCheckToken(token)) {
             checkedAccount.completeSignUp();
+            this.principalCache.evict(checkedAccount);
             return checkedAccount;
         }
         return null;
@@ -107,30 +118,39 @@ public class AccountService implements UserDetailsService {
         SecurityContextHolder.getContext().setAuthentication(token);
     }
 
+    /**
+     * 이메일 또는 닉네임으로 계정을 찾아 UserDetails로 반환합니다.
+     * 로그인과 자동 로그인(remember-me) 마다 호출되므로 짧은 시간 동안 PrincipalCache에 캐시 된 계정을 사용합니다.
+     * @param emailOrNickname
+     * @return
+     * @throws UsernameNotFoundException
+     */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String emailOrNickname) throws UsernameNotFoundException {
-        Account account = this.findAccountByEmailOrNickname(emailOrNickname);
+        Account account = this.principalCache.get(emailOrNickname);
         if(account == null) {
-            throw new UsernameNotFoundException("not found account : " + emailOrNickname);
+            account = this.findAccountByEmailOrNickname(emailOrNickname);
+            if(account == null) {
+                throw new UsernameNotFoundException("not found account : " + emailOrNickname);
+            }
+            this.principalCache.put(emailOrNickname, account);
         }
         return new UserAccount(account);
     }
 
     /**
-     * 파라미터로 받은 값의 email 혹은 nickname을 가진 계정이 있는지 확인
+     * 파라미터로 받은 값의 email 혹은 nickname을 가진 계정을 한 번의 쿼리로 조회합니다.
+     * 이메일이 일치하는 계정을 우선합니다.
      * @param emailOrNickname
      * @return
      */
     private Account findAccountByEmailOrNickname(String emailOrNickname) {
-        Account account = null;
-        if(this.accountRepository.findByEmail(emailOrNickname).isPresent()) {
-            return this.accountRepository.findByEmail(emailOrNickname).get();
-        }
-
-        if(this.accountRepository.findByNickname(emailOrNickname).isPresent()) {
-            account = this.accountRepository.findByNickname(emailOrNickname).get();
-        }
-        return account;
+        List<Account> accounts = this.accountRepository.findByEmailOrNickname(emailOrNickname);
+        return accounts.stream()
+                .filter(account -> emailOrNickname.equals(account.getEmail()))
+                .findFirst()
+                .orElse(accounts.isEmpty() ? null : accounts.get(0));
     }
 
     public Account findByNickname(String nickname) {
@@ -141,19 +161,32 @@ public class AccountService implements UserDetailsService {
         return byNickname.get();
     }
 
+    /**
+     * 프로필을 수정합니다.
+     * 프로필 이미지는 ImageStore에 저장하고 계정에는 키만 저장합니다.
+     * @param account
+     * @param profile
+     * @return
+     */
     public Account updateProfile(Account account, Profile profile) {
-        return this.accountRepository.save(account.updateProfile(profile));
+        this.principalCache.evict(account);
+        String profileImageKey = this.imageStore.resolveKey(profile.getProfileImage());
+        this.imageVariantGenerator.generate(profileImageKey, ImageVariant.AVATAR);
+        return this.accountRepository.save(account.updateProfile(profile, profileImageKey));
     }
 
     public void updatePassword(Account account, String password) {
+        this.principalCache.evict(account);
         this.accountRepository.save(account.updateEncodedPassword(this.passwordEncoder, password));
     }
 
     public void updateNotifications(Account account, Notifications notifications) {
+        this.principalCache.evict(account);
         this.accountRepository.save(account.updateNotifications(notifications));
     }
 
     public void updateNickname(Account account, NicknameForm nicknameForm) {
+        this.principalCache.evict(account);
         Account updatedNicknameAccount = this.accountRepository.save(account.updateNickname(nicknameForm.getNickname()));
         this.login(updatedNicknameAccount);
     }
@@ -161,6 +194,7 @@ public class AccountService implements UserDetailsService {
     public void addTag(Account account, Tag tag) {
         this.accountRepository.findById(account.getId())
                 .ifPresent(account1 -> account1.addTag(tag));
+        this.eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public Set<Tag> findTags(Account account) {
@@ -172,6 +206,7 @@ public class AccountService implements UserDetailsService {
     public void removeTag(Account account, Tag tag) {
         this.accountRepository.findById(account.getId())
                 .ifPresent(account1 -> account1.removeTag(tag));
+        this.eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public Set<Zone> findZones(Account account) {
@@ -183,11 +218,13 @@ public class AccountService implements UserDetailsService {
     public void addZone(Account account, Zone zone) {
         this.accountRepository.findById(account.getId())
                 .ifPresent(account1 -> account1.addZone(zone));
+        this.eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public void removeZone(Account account, Zone zone) {
         this.accountRepository.findById(account.getId())
                 .ifPresent(account1 -> account1.removeZone(zone));
+        this.eventPublisher.publishEvent(new AccountInterestChangedEvent(account.getId()));
     }
 
     public Account findWithTagsAndZonesById(Account account) {
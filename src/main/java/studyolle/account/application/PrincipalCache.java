@@ -0,0 +1,108 @@
+package studyolle.account.application;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import studyolle.account.domain.Account;
+import studyolle.config.AppProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인, 자동 로그인(remember-me) 시 이메일 또는 닉네임으로 조회한 계정 캐시
+ * 최대 app.principal-cache-size 개의 식별자를 LRU 방식으로 app.principal-cache-ttl 동안 유지하며,
+ * 계정 정보가 바뀌면 커밋 이후 해당 계정의 항목을 모두 지웁니다.
+ * 인증 후 UserAccount의 비밀번호가 지워지므로(eraseCredentials) UserAccount가 아닌 계정의 복사본을 캐시하고,
+ * 꺼낼 때도 복사본을 반환해서 요청마다 다른 인스턴스를 사용하도록 합니다.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Map<String, Entry> accounts;
+    private final long ttlMillis;
+
+    public PrincipalCache(AppProperties appProperties) {
+        int maxSize = appProperties.getPrincipalCacheSize();
+        this.ttlMillis = appProperties.getPrincipalCacheTtl();
+        this.accounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 식별자로 캐시 된 계정의 복사본을 반환합니다. (없거나 만료되었으면 null)
+     * @param emailOrNickname
+     * @return
+     */
+    public Account get(String emailOrNickname) {
+        Entry entry;
+        synchronized (this.accounts) {
+            entry = this.accounts.get(emailOrNickname);
+            if(entry == null) {
+                return null;
+            }
+            if(entry.expiresAt < System.currentTimeMillis()) {
+                this.accounts.remove(emailOrNickname);
+                return null;
+            }
+        }
+        return copy(entry.account);
+    }
+
+    public void put(String emailOrNickname, Account account) {
+        Entry entry = new Entry(copy(account), System.currentTimeMillis() + this.ttlMillis);
+        synchronized (this.accounts) {
+            this.accounts.put(emailOrNickname, entry);
+        }
+    }
+
+    /**
+     * 계정의 캐시 항목과 계정의 이메일, 닉네임을 식별자로 하는 캐시 항목을 모두 지웁니다.
+     * 트랜잭션 안에서 호출된 경우 변경이 커밋 된 이후에도 한 번 더 지워, 그 사이에 캐시 된 이전 값을 남기지 않습니다.
+     * @param account
+     */
+    public void evict(Account account) {
+        Long accountId = account.getId();
+        String email = account.getEmail();
+        String nickname = account.getNickname();
+        this.remove(accountId, email, nickname);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    remove(accountId, email, nickname);
+                }
+            });
+        }
+    }
+
+    private void remove(Long accountId, String email, String nickname) {
+        synchronized (this.accounts) {
+            this.accounts.remove(email);
+            this.accounts.remove(nickname);
+            this.accounts.values().removeIf(entry -> entry.account.getId().equals(accountId));
+        }
+    }
+
+    private static Account copy(Account account) {
+        Account copy = new Account();
+        BeanUtils.copyProperties(account, copy);
+        return copy;
+    }
+
+    private static class Entry {
+
+        private final Account account;
+        private final long expiresAt;
+
+        Entry(Account account, long expiresAt) {
+            this.account = account;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
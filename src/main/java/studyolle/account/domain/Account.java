@@ -4,6 +4,8 @@ import lombok.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import studyolle.account.dto.Notifications;
 import studyolle.account.dto.Profile;
+import studyolle.common.image.ImageStore;
+import studyolle.common.image.ImageVariant;
 import studyolle.tag.domain.Tag;
 import studyolle.zone.domain.Zone;
 
@@ -37,8 +39,12 @@ public class Account {
     private String url;
     private String occupation;
     private String location;
-    @Lob @Basic(fetch = FetchType.EAGER)
-    private String profileImage;
+    /**
+     * ImageStore에 저장된 프로필 이미지의 키
+     * 이미지를 profile_image 컬럼에 저장하던 때의 계정은 ImageDataUrlMigration이 옮깁니다.
+     */
+    @Column(length = 80)
+    private String profileImageKey;
 
     private boolean studyCreatedByEmail;
     private boolean studyCreatedByWeb;
@@ -91,15 +97,31 @@ public class Account {
         return this.emailCheckTokenGeneratedAt.isBefore(LocalDateTime.now().minusHours(1));
     }
 
-    public Account updateProfile(Profile profile) {
+    public Account updateProfile(Profile profile, String profileImageKey) {
         this.bio = profile.getBio();
         this.url = profile.getUrl();
         this.occupation = profile.getOccupation();
         this.location = profile.getLocation();
-        this.profileImage = profile.getProfileImage();
+        this.profileImageKey = profileImageKey;
         return this;
     }
 
+    /**
+     * 프로필 이미지의 URL을 반환합니다. (없으면 null)
+     * @return
+     */
+    public String getProfileImage() {
+        return ImageStore.urlOf(this.profileImageKey);
+    }
+
+    /**
+     * 목록, 메뉴 등에 보여줄 작은 프로필 이미지의 URL을 반환합니다. (없으면 null)
+     * @return
+     */
+    public String getProfileThumbnail() {
+        return ImageVariant.AVATAR.urlOf(this.profileImageKey);
+    }
+
     public Account updateNotifications(Notifications notifications) {
         this.studyCreatedByWeb = notifications.isStudyCreatedByWeb();
         this.studyCreatedByEmail = notifications.isStudyCreatedByEmail();
@@ -2,10 +2,22 @@ package studyolle.account.domain;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import studyolle.account.dto.NotificationRecipient;
+import studyolle.tag.domain.Tag;
+import studyolle.zone.domain.Zone;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Transactional
 public interface AccountRepository extends JpaRepository<Account, Long>, QuerydslPredicateExecutor<Account> {
@@ -18,6 +30,49 @@ public interface AccountRepository extends JpaRepository<Account, Long>, Queryds
 
     Optional<Account> findByNickname(String nickname);
 
+    /**
+     * 이메일 또는 닉네임이 일치하는 계정을 한 번의 쿼리로 조회합니다. (email, nickname 유니크 인덱스 사용)
+     * 한 계정의 이메일이 다른 계정의 닉네임과 같은 경우 두 계정이 모두 조회됩니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select a from Account a where a.email = :emailOrNickname or a.nickname = :emailOrNickname")
+    List<Account> findByEmailOrNickname(@Param("emailOrNickname") String emailOrNickname);
+
     @EntityGraph(attributePaths = {"tags", "zones"}, type = EntityGraph.EntityGraphType.FETCH)
     Optional<Account> findWithTagsAndZonesById(Long id);
+
+    @Transactional(readOnly = true)
+    @Query("select distinct a.id from Account a join a.tags t join a.zones z where t in :tags and z in :zones")
+    List<Long> findIdsByTagsAndZones(@Param("tags") Set<Tag> tags, @Param("zones") Set<Zone> zones);
+
+    @Transactional(readOnly = true)
+    @Query("select distinct a.id from Account a join a.tags t join a.zones z")
+    List<Long> findIdsHavingTagsAndZones();
+
+    /**
+     * 관심분야와 활동지역이 겹치는 계정의 스터디 개설 알림 설정을 스트림으로 조회합니다.
+     * 관심분야, 활동지역 조건을 join 대신 exists로 확인하므로 distinct로 전체 결과를 모아 중복을 제거하지 않고 바로 읽어옵니다.
+     * fetch size 만큼씩 나누어 읽는 것은 드라이버 설정에 따라 다릅니다.
+     * (PostgreSQL은 트랜잭션 안에서 fetch size를 사용하고, MySQL은 JDBC URL에 useCursorFetch=true가 있어야 합니다)
+     * 호출하는 쪽에서 트랜잭션 안에서 사용 후 스트림을 닫아야 합니다.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new studyolle.account.dto.NotificationRecipient(a.id, a.email, a.nickname" +
+            ", a.studyCreatedByWeb, a.studyCreatedByEmail) from Account a " +
+            "where exists (select t.id from Account ta join ta.tags t where ta = a and t in :tags) " +
+            "and exists (select z.id from Account za join za.zones z where za = a and z in :zones)")
+    Stream<NotificationRecipient> streamStudyCreatedRecipients(@Param("tags") Set<Tag> tags
+            , @Param("zones") Set<Zone> zones);
+
+    /**
+     * 스터디 멤버의 스터디 변경 알림 설정을 스트림으로 조회합니다. (드라이버 설정은 streamStudyCreatedRecipients 참고)
+     * 호출하는 쪽에서 트랜잭션 안에서 사용 후 스트림을 닫아야 합니다.
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select new studyolle.account.dto.NotificationRecipient(a.id, a.email, a.nickname" +
+            ", a.studyUpdatedByWeb, a.studyUpdatedByEmail) " +
+            "from Study s join s.members a where s.id = :studyId")
+    Stream<NotificationRecipient> streamStudyUpdatedRecipients(@Param("studyId") Long studyId);
 }
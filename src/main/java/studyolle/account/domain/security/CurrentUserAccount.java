@@ -1,14 +1,15 @@
 package studyolle.account.domain.security;
 
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 로그인 한 계정의 Account를 컨트롤러 파라미터로 받습니다. (로그인하지 않았으면 null)
+ * CurrentUserAccountArgumentResolver가 세션의 UserAccount의 계정 ID로 지연 로딩되는 Account를 넘겨줍니다.
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.PARAMETER)
-@AuthenticationPrincipal(expression = "#this == 'anonymousUser' ? null : account")
 public @interface CurrentUserAccount {
 }
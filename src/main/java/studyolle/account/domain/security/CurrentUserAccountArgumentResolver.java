@@ -0,0 +1,40 @@
+package studyolle.account.domain.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+
+/**
+ * @CurrentUserAccount Account 파라미터에 로그인 한 계정을 넘겨줍니다.
+ * 바로 조회하지 않고 getOne으로 프록시를 넘겨, 컨트롤러가 계정 ID 외의 값을 사용할 때 (open-in-view 세션에서) 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserAccountArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserAccount.class)
+                && Account.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer
+            , NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(authentication == null || !(authentication.getPrincipal() instanceof UserAccount)) {
+            return null;
+        }
+        return this.accountRepository.getOne(((UserAccount) authentication.getPrincipal()).getAccountId());
+    }
+}
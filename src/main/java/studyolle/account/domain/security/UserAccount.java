@@ -7,13 +7,27 @@ import studyolle.account.domain.Account;
 
 import java.util.List;
 
+/**
+ * 세션에 저장되는 로그인 계정 정보
+ * 프로필 이미지 등을 포함한 Account 엔티티 대신 계정 ID와 몇 가지 값만 가지며,
+ * 컨트롤러에서 Account가 필요한 경우 @CurrentUserAccount로 계정 ID를 이용해 조회합니다.
+ */
 @Getter
 public class UserAccount extends User {
 
-    private final Account account;
+    private final Long accountId;
+
+    private final String nickname;
+
+    private final String email;
+
+    private final boolean emailVerified;
 
     public UserAccount(Account account) {
         super(account.getNickname(), account.getPassword(), List.of(new SimpleGrantedAuthority("ROLE_USER")));
-        this.account = account;
+        this.accountId = account.getId();
+        this.nickname = account.getNickname();
+        this.email = account.getEmail();
+        this.emailVerified = account.isEmailVerified();
     }
 }
@@ -0,0 +1,23 @@
+package studyolle.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 대상 계정의 ID와 알림 수신 설정만 담은 조회 전용 값
+ * (프로필 이미지 등 계정 엔티티 전체를 로딩하지 않기 위해 사용합니다)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationRecipient {
+
+    private Long accountId;
+
+    private String email;
+
+    private String nickname;
+
+    private boolean byWeb;
+
+    private boolean byEmail;
+}
@@ -1,7 +1,5 @@
 package studyolle.account.web;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -14,15 +12,14 @@ import studyolle.account.application.AccountService;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.security.CurrentUserAccount;
 import studyolle.account.dto.*;
+import studyolle.app.WhitelistController;
 import studyolle.tag.application.TagService;
 import studyolle.tag.domain.Tag;
 import studyolle.zone.application.ZoneService;
 import studyolle.zone.domain.Zone;
 
 import javax.validation.Valid;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
@@ -44,7 +41,6 @@ public class SettingsController {
     private final AccountService accountService;
     private final NicknameFormValidator nicknameFormValidator;
     private final TagService tagService;
-    private final ObjectMapper objectMapper;
     private final ZoneService zoneService;
 
     @InitBinder("passwordForm")
@@ -142,12 +138,11 @@ public class SettingsController {
     }
 
     @GetMapping(URL_SETTINGS_TAGS)
-    public String tagsSettingForm(@CurrentUserAccount Account account, Model model) throws JsonProcessingException {
+    public String tagsSettingForm(@CurrentUserAccount Account account, Model model) {
         model.addAttribute("account", account);
         model.addAttribute("tags", this.accountService.findTags(account).stream().map(Tag::getTitle));
 
-        List<String> allTags = this.tagService.findAllTags().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", this.objectMapper.writeValueAsString(allTags));
+        model.addAttribute("whitelistUrl", WhitelistController.URL_WHITELIST_TAGS);
         return VIEW_SETTINGS_TAGS;
     }
 
@@ -168,13 +163,11 @@ public class SettingsController {
     }
 
     @GetMapping(URL_SETTINGS_ZONES)
-    public String zonesSettingForm(@CurrentUserAccount Account account, Model model) throws JsonProcessingException {
+    public String zonesSettingForm(@CurrentUserAccount Account account, Model model) {
         model.addAttribute("account", account);
         model.addAttribute("zones", this.accountService.findZones(account).stream().map(Zone::toString));
 
-        List<String> allZones = this.zoneService.findAllZones().stream().map(Zone::toString)
-                .collect(Collectors.toList());
-        model.addAttribute("whitelist", this.objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelistUrl", WhitelistController.URL_WHITELIST_ZONES);
         return VIEW_SETTINGS_ZONES;
     }
 
@@ -0,0 +1,73 @@
+package studyolle.app;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.context.request.WebRequest;
+import studyolle.common.image.ImageStore;
+import studyolle.common.image.ImageVariant;
+import studyolle.common.image.ImageVariantGenerator;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ImageStore에 저장된 이미지를 파일에서 바로 스트리밍합니다.
+ * 키가 이미지 내용의 해시이므로 키를 strong ETag로 사용하고, 내용이 바뀌지 않아 1년 동안 캐시하도록 응답합니다.
+ * 썸네일(ImageVariant)이 아직 없으면 원본을 대신 제공합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    public static final String URL_IMAGE = ImageStore.URL_PREFIX + "{key:.+}";
+
+    private final ImageStore imageStore;
+    private final ImageVariantGenerator imageVariantGenerator;
+
+    @GetMapping(URL_IMAGE)
+    public ResponseEntity<Resource> image(@PathVariable String key, WebRequest webRequest) {
+        Optional<Path> image = this.imageStore.find(key);
+        if(image.isEmpty()) {
+            return this.originalImage(key);
+        }
+
+        String etag = "\"" + key + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
+        if(webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(this.imageStore.mediaTypeOf(key))
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .body(new FileSystemResource(image.get()));
+    }
+
+    /**
+     * 아직 만들어지지 않은 썸네일(ImageVariant)을 요청한 경우 만들도록 요청하고, 그동안은 원본 이미지를 캐시하지 않도록 응답합니다.
+     * @param key
+     * @return
+     */
+    private ResponseEntity<Resource> originalImage(String key) {
+        Optional<ImageVariant> variant = ImageVariant.ofKey(key);
+        Optional<String> originalKey = variant.flatMap(v -> this.imageStore.findOriginalKey(key));
+        Optional<Path> original = originalKey.flatMap(this.imageStore::find);
+        if(original.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        this.imageVariantGenerator.generate(originalKey.get(), variant.get());
+        return ResponseEntity.ok()
+                .contentType(this.imageStore.mediaTypeOf(originalKey.get()))
+                .cacheControl(CacheControl.noCache())
+                .body(new FileSystemResource(original.get()));
+    }
+}
@@ -8,6 +8,7 @@ import studyolle.account.application.AccountService;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.security.CurrentUserAccount;
 import studyolle.event.application.EventService;
+import studyolle.study.application.StudyFeedService;
 import studyolle.study.application.StudyService;
 import studyolle.study.domain.Study;
 
@@ -20,6 +21,7 @@ public class MainController {
 
     private final AccountService accountService;
     private final StudyService studyService;
+    private final StudyFeedService studyFeedService;
     private final EventService eventService;
 
     @GetMapping("/")
@@ -41,7 +43,7 @@ public class MainController {
         Account persistAccount = this.accountService.findWithTagsAndZonesById(account);
         model.addAttribute("account", persistAccount);
         model.addAttribute("enrollmentList", this.eventService.findAcceptedEnrollmentsByAccount(persistAccount));
-        model.addAttribute("studyList", this.studyService.findByZonesAndTagsForAccount(persistAccount));
+        model.addAttribute("studyList", this.studyFeedService.findFeedStudies(persistAccount));
         model.addAttribute("studyManagerOf", this.studyService.findManagedStudy(persistAccount));
         model.addAttribute("studyMemberOf", this.studyService.findJoinedStudy(persistAccount));
     }
@@ -0,0 +1,47 @@
+package studyolle.app;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import studyolle.common.whitelist.Whitelist;
+import studyolle.tag.application.TagService;
+import studyolle.zone.application.ZoneService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 태그, 지역 입력의 자동완성 목록을 JSON으로 제공합니다.
+ * ETag를 함께 응답하므로 목록이 바뀌지 않았다면 If-None-Match 요청에 304로 응답합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class WhitelistController {
+
+    public static final String URL_WHITELIST_TAGS = "/whitelist/tags";
+    public static final String URL_WHITELIST_ZONES = "/whitelist/zones";
+
+    private final TagService tagService;
+    private final ZoneService zoneService;
+
+    @GetMapping(URL_WHITELIST_TAGS)
+    public ResponseEntity<String> tagWhitelist() {
+        return this.toResponse(this.tagService.getWhitelist(), CacheControl.noCache().cachePrivate());
+    }
+
+    @GetMapping(URL_WHITELIST_ZONES)
+    public ResponseEntity<String> zoneWhitelist() {
+        return this.toResponse(this.zoneService.getWhitelist(), CacheControl.maxAge(1, TimeUnit.DAYS).cachePrivate());
+    }
+
+    private ResponseEntity<String> toResponse(Whitelist whitelist, CacheControl cacheControl) {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .cacheControl(cacheControl)
+                .eTag(whitelist.getEtag())
+                .body(whitelist.getJson());
+    }
+}
@@ -3,37 +3,59 @@ package studyolle.common.email;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.stereotype.Component;
 
+import javax.mail.MessagingException;
+import javax.mail.Session;
 import javax.mail.internet.MimeMessage;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Properties;
 
 @Profile("local")
 @Component
 @Slf4j
 public class ConsoleMailSender implements JavaMailSender {
 
+    private final Session session = Session.getInstance(new Properties());
+
     @Override
     public MimeMessage createMimeMessage() {
-        return null;
+        return new MimeMessage(this.session);
     }
 
     @Override
     public MimeMessage createMimeMessage(InputStream inputStream) throws MailException {
-        return null;
+        try {
+            return new MimeMessage(this.session, inputStream);
+        } catch (MessagingException e) {
+            throw new MailParseException(e);
+        }
     }
 
     @Override
     public void send(MimeMessage mimeMessage) throws MailException {
-
+        this.send(new MimeMessage[]{mimeMessage});
     }
 
+    /**
+     * 실제로 전송하지 않고 받는 사람과 제목만 로그로 남깁니다.
+     * @param mimeMessages
+     * @throws MailException
+     */
     @Override
     public void send(MimeMessage... mimeMessages) throws MailException {
-
+        for(MimeMessage mimeMessage : mimeMessages) {
+            try {
+                log.info("send Email : {} - {}", Arrays.toString(mimeMessage.getAllRecipients()), mimeMessage.getSubject());
+            } catch (MessagingException e) {
+                throw new MailParseException(e);
+            }
+        }
     }
 
     @Override
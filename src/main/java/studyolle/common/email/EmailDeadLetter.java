@@ -0,0 +1,46 @@
+package studyolle.common.email;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 후에도 전송하지 못한 메일
+ * 메일 내용을 그대로 보관하므로 원인을 해결한 후 다시 보낼 수 있습니다.
+ */
+@Entity
+@Getter @EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailDeadLetter {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Lob
+    private String message;
+
+    private int attempts;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime createdDateTime;
+
+    public static EmailDeadLetter of(EmailMessage emailMessage, int attempts, String error) {
+        EmailDeadLetter deadLetter = new EmailDeadLetter();
+        deadLetter.recipient = emailMessage.getTo();
+        deadLetter.subject = emailMessage.getSubject();
+        deadLetter.message = emailMessage.getMessage();
+        deadLetter.attempts = attempts;
+        deadLetter.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        deadLetter.createdDateTime = LocalDateTime.now();
+        return deadLetter;
+    }
+}
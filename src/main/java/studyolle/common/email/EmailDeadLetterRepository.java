@@ -0,0 +1,11 @@
+package studyolle.common.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public interface EmailDeadLetterRepository extends JpaRepository<EmailDeadLetter, Long> {
+
+    @Transactional(readOnly = true)
+    long countByRecipient(String recipient);
+}
@@ -0,0 +1,189 @@
+package studyolle.common.email;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import studyolle.config.AppProperties;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 메일을 큐에 넣고 바로 반환하는 EmailService
+ * 워커 스레드가 큐에서 최대 app.mail-batch-size 개의 메일을 꺼내 한 번의 SMTP 연결로 전송하며,
+ * 실패한 메일은 대기 시간을 2배씩 늘려가며 재시도하고 최대 시도 횟수를 넘으면 EmailDeadLetter로 저장합니다.
+ * 큐가 가득 찬 경우에도 요청을 기다리게 하지 않고 바로 EmailDeadLetter로 저장합니다.
+ */
+@Primary
+@Component
+@Slf4j
+public class QueuedEmailService implements EmailService {
+
+    private final JavaMailSender javaMailSender;
+    private final HtmlEmailService htmlEmailService;
+    private final EmailDeadLetterRepository emailDeadLetterRepository;
+    private final AppProperties appProperties;
+
+    private final BlockingQueue<EmailTask> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryScheduler;
+
+    private volatile boolean running;
+
+    public QueuedEmailService(JavaMailSender javaMailSender, HtmlEmailService htmlEmailService
+            , EmailDeadLetterRepository emailDeadLetterRepository, AppProperties appProperties) {
+        this.javaMailSender = javaMailSender;
+        this.htmlEmailService = htmlEmailService;
+        this.emailDeadLetterRepository = emailDeadLetterRepository;
+        this.appProperties = appProperties;
+        this.queue = new LinkedBlockingQueue<>(appProperties.getMailQueueCapacity());
+        this.workers = Executors.newFixedThreadPool(appProperties.getMailWorkers()
+                , new CustomizableThreadFactory("EmailWorker"));
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("EmailRetry"));
+    }
+
+    @PostConstruct
+    public void start() {
+        this.running = true;
+        for(int i = 0; i < this.appProperties.getMailWorkers(); i++) {
+            this.workers.execute(this::work);
+        }
+    }
+
+    /**
+     * 워커를 멈추고 아직 보내지 못한 메일은 EmailDeadLetter로 저장합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        this.running = false;
+        this.retryScheduler.shutdownNow();
+        this.workers.shutdownNow();
+        List<EmailTask> remains = new ArrayList<>();
+        this.queue.drainTo(remains);
+        remains.forEach(task -> this.deadLetter(task, "application shutdown"));
+    }
+
+    @Override
+    public void sendEmail(EmailMessage emailMessage) {
+        EmailTask task = new EmailTask(emailMessage);
+        if(!this.queue.offer(task)) {
+            log.warn("email queue is full, dead-lettering email to {}", emailMessage.getTo());
+            this.deadLetter(task, "email queue is full");
+        }
+    }
+
+    private void work() {
+        int batchSize = this.appProperties.getMailBatchSize();
+        while (this.running) {
+            try {
+                EmailTask first = this.queue.poll(1, TimeUnit.SECONDS);
+                if(first == null) {
+                    continue;
+                }
+                List<EmailTask> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                this.queue.drainTo(batch, batchSize - 1);
+                this.send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("email worker error", e);
+            }
+        }
+    }
+
+    /**
+     * 메일 묶음을 한 번에 전송합니다.
+     * 일부 메일만 실패한 경우 실패한 메일만 재시도합니다.
+     * @param batch
+     */
+    private void send(List<EmailTask> batch) {
+        Map<MimeMessage, EmailTask> messages = new IdentityHashMap<>();
+        for(EmailTask task : batch) {
+            try {
+                messages.put(this.htmlEmailService.createMimeMessage(task.getEmailMessage()), task);
+            } catch (MessagingException | RuntimeException e) {
+                this.deadLetter(task, e.toString());
+            }
+        }
+        if(messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            log.info("sent {} emails", messages.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if(failedMessages.isEmpty()) {
+                messages.values().forEach(task -> this.retry(task, e));
+                return;
+            }
+            failedMessages.forEach((message, exception) -> {
+                EmailTask task = messages.get(message);
+                if(task != null) {
+                    this.retry(task, exception);
+                }
+            });
+        } catch (MailException e) {
+            messages.values().forEach(task -> this.retry(task, e));
+        }
+    }
+
+    private void retry(EmailTask task, Exception cause) {
+        int attempts = task.increaseAttempts();
+        if(attempts >= this.appProperties.getMailMaxAttempts() || !this.running) {
+            this.deadLetter(task, cause.toString());
+            return;
+        }
+
+        long delay = this.appProperties.getMailRetryInitialBackoffMillis() << Math.min(attempts - 1, 20);
+        log.warn("failed to send email to {} ({} attempts), retry after {}ms : {}"
+                , task.getEmailMessage().getTo(), attempts, delay, cause.getMessage());
+        try {
+            this.retryScheduler.schedule(() -> {
+                if(!this.queue.offer(task)) {
+                    this.deadLetter(task, "email queue is full");
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            this.deadLetter(task, cause.toString());
+        }
+    }
+
+    private void deadLetter(EmailTask task, String error) {
+        try {
+            this.emailDeadLetterRepository.save(EmailDeadLetter.of(task.getEmailMessage(), task.getAttempts(), error));
+        } catch (RuntimeException e) {
+            log.error("failed to save dead letter email to {}", task.getEmailMessage().getTo(), e);
+        }
+    }
+
+    @Getter
+    private static class EmailTask {
+
+        private final EmailMessage emailMessage;
+        private int attempts;
+
+        EmailTask(EmailMessage emailMessage) {
+            this.emailMessage = emailMessage;
+        }
+
+        int increaseAttempts() {
+            return ++this.attempts;
+        }
+    }
+}
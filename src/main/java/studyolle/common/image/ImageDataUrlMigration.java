@@ -0,0 +1,53 @@
+package studyolle.common.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import studyolle.common.migration.DataMigration;
+
+import java.util.List;
+
+/**
+ * 이미지를 ImageStore에 저장하기 전에 account.profile_image, study.image 컬럼(@Lob)에 data URL로 저장한 이미지를
+ * ImageStore로 옮기고 profile_image_key, image_key에 키를 채웁니다.
+ * 옛 컬럼의 값은 지우지 않으며, 옮길 수 없는 이미지(형식이 잘못되었거나 너무 큰 이미지)는 로그만 남기고 그대로 둡니다.
+ * 이미지 하나씩 읽어서 옮기므로 이미지가 많아도 메모리를 적게 사용합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ImageDataUrlMigration implements DataMigration {
+
+    private final ImageStore imageStore;
+
+    @Override
+    public String getName() {
+        return "003-image-data-url";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        this.migrate(jdbcTemplate, "account", "profile_image", "profile_image_key");
+        this.migrate(jdbcTemplate, "study", "image", "image_key");
+    }
+
+    private void migrate(JdbcTemplate jdbcTemplate, String table, String column, String keyColumn) {
+        if(!DataMigration.hasColumn(jdbcTemplate, table, column)) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList("select id from " + table
+                + " where " + column + " is not null and " + keyColumn + " is null", Long.class);
+        for(Long id : ids) {
+            String dataUrl = jdbcTemplate.queryForObject("select " + column + " from " + table + " where id = ?"
+                    , String.class, id);
+            try {
+                String key = this.imageStore.storeDataUrl(dataUrl);
+                jdbcTemplate.update("update " + table + " set " + keyColumn + " = ? where id = ?", key, id);
+            } catch (IllegalArgumentException e) {
+                log.warn("cannot migrate image of {} {} : {}", table, id, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package studyolle.common.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import studyolle.config.AppProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 이미지를 내용의 SHA-256 해시를 키로 로컬 파일 시스템(app.image-store-path)에 저장합니다.
+ * 같은 이미지는 한 번만 저장되고, 키가 같으면 내용도 같으므로 저장된 파일은 바뀌지 않습니다.
+ * 엔티티는 이미지 대신 키만 저장하고, 이미지는 ImageController가 URL_PREFIX + 키로 제공합니다.
+ */
+@Component
+@Slf4j
+public class ImageStore {
+
+    public static final String URL_PREFIX = "/uploads/";
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}(-(avatar|card|banner))?\\.(png|jpg|gif|webp)");
+    private static final int HASH_LENGTH = 64;
+    private static final String DATA_URL_BASE64 = ";base64,";
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            MediaType.IMAGE_PNG_VALUE, "png",
+            MediaType.IMAGE_JPEG_VALUE, "jpg",
+            MediaType.IMAGE_GIF_VALUE, "gif",
+            "image/webp", "webp");
+    private static final Map<String, MediaType> MEDIA_TYPES = Map.of(
+            "png", MediaType.IMAGE_PNG,
+            "jpg", MediaType.IMAGE_JPEG,
+            "gif", MediaType.IMAGE_GIF,
+            "webp", MediaType.parseMediaType("image/webp"));
+
+    private final Path root;
+    private final int maxSize;
+
+    public ImageStore(AppProperties appProperties) {
+        this.root = Paths.get(appProperties.getImageStorePath()).toAbsolutePath().normalize();
+        this.maxSize = appProperties.getImageMaxSize();
+    }
+
+    /**
+     * 화면에서 받은 이미지 값을 저장하고 키를 반환합니다.
+     * data URL(data:image/png;base64,...)이면 새로 저장하고, 이미 저장된 이미지의 URL이면 그 키를, 비어있으면 null을 반환합니다.
+     * @param image
+     * @return
+     */
+    public String resolveKey(String image) {
+        if(image == null || image.isBlank()) {
+            return null;
+        }
+        if(image.startsWith(URL_PREFIX) && this.isValidKey(image.substring(URL_PREFIX.length()))) {
+            return image.substring(URL_PREFIX.length());
+        }
+        return this.storeDataUrl(image);
+    }
+
+    /**
+     * data URL의 이미지를 저장하고 키를 반환합니다.
+     * @param dataUrl
+     * @return
+     */
+    public String storeDataUrl(String dataUrl) {
+        int index = dataUrl.indexOf(DATA_URL_BASE64);
+        if(!dataUrl.startsWith("data:") || index < 0) {
+            throw new IllegalArgumentException("이미지 형식이 올바르지 않습니다.");
+        }
+        String extension = EXTENSIONS.get(dataUrl.substring("data:".length(), index).toLowerCase());
+        if(extension == null) {
+            throw new IllegalArgumentException("png, jpg, gif, webp 이미지만 사용 할 수 있습니다.");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(dataUrl.substring(index + DATA_URL_BASE64.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("이미지 형식이 올바르지 않습니다.");
+        }
+        return this.store(bytes, extension);
+    }
+
+    /**
+     * 이미지를 저장하고 키를 반환합니다. 같은 키의 파일이 있으면 다시 쓰지 않습니다.
+     * 임시 파일에 쓴 뒤 옮기므로 다른 요청이 쓰는 중인 파일을 읽지 않습니다.
+     * @param bytes
+     * @param extension
+     * @return
+     */
+    public String store(byte[] bytes, String extension) {
+        if(bytes.length == 0 || bytes.length > this.maxSize) {
+            throw new IllegalArgumentException("이미지는 " + this.maxSize / 1024 + "KB 이하만 사용 할 수 있습니다.");
+        }
+        String key = sha256(bytes) + "." + extension;
+        this.write(key, bytes);
+        return key;
+    }
+
+    /**
+     * 원본 이미지로 만든 이미지를 저장합니다. (ImageVariant.keyOf로 만든 키)
+     * @param key
+     * @param bytes
+     */
+    public void storeVariant(String key, byte[] bytes) {
+        if(!this.isValidKey(key) || key.charAt(HASH_LENGTH) != '-') {
+            throw new IllegalArgumentException("잘못된 이미지 키 입니다.");
+        }
+        this.write(key, bytes);
+    }
+
+    private void write(String key, byte[] bytes) {
+        Path path = this.pathOf(key);
+        if(Files.exists(path)) {
+            return;
+        }
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), key, ".tmp");
+            try {
+                Files.write(temp, bytes);
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                log.debug("image {} already stored", key);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지를 저장 할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 키의 이미지 파일을 반환합니다. 키가 올바르지 않거나 파일이 없으면 빈 값을 반환합니다.
+     * @param key
+     * @return
+     */
+    public Optional<Path> find(String key) {
+        if(!this.isValidKey(key)) {
+            return Optional.empty();
+        }
+        Path path = this.pathOf(key);
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    /**
+     * 이미지(ImageVariant로 만든 이미지 포함) 키의 원본 이미지 키를 찾습니다. 원본 파일이 없으면 빈 값을 반환합니다.
+     * @param key
+     * @return
+     */
+    public Optional<String> findOriginalKey(String key) {
+        if(!this.isValidKey(key)) {
+            return Optional.empty();
+        }
+        String hash = hashOf(key);
+        return MEDIA_TYPES.keySet().stream()
+                .map(extension -> hash + "." + extension)
+                .filter(originalKey -> Files.isRegularFile(this.pathOf(originalKey)))
+                .findFirst();
+    }
+
+    public MediaType mediaTypeOf(String key) {
+        return MEDIA_TYPES.get(key.substring(key.lastIndexOf('.') + 1));
+    }
+
+    public static String urlOf(String key) {
+        return key == null ? null : URL_PREFIX + key;
+    }
+
+    static String hashOf(String key) {
+        return key.substring(0, HASH_LENGTH);
+    }
+
+    private boolean isValidKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+
+    /**
+     * 한 디렉토리에 파일이 너무 많아지지 않도록 해시 앞 2글자를 디렉토리로 사용합니다.
+     */
+    private Path pathOf(String key) {
+        return this.root.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for(byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package studyolle.common.image;
+
+import java.util.Optional;
+
+/**
+ * 원본 이미지로 만드는 고정 크기 이미지
+ * 원본 키의 해시에 이름을 붙인 키(해시-이름.jpg)로 저장하므로 원본 키만으로 URL을 만들 수 있습니다.
+ */
+public enum ImageVariant {
+
+    /**
+     * 프로필 이미지 (목록, 메뉴의 작은 프로필)
+     */
+    AVATAR(128, 128),
+
+    /**
+     * 스터디 목록 카드의 배너 (13:2)
+     */
+    CARD(780, 120),
+
+    /**
+     * 스터디 화면 상단 배너 (13:2)
+     */
+    BANNER(1300, 200);
+
+    public static final String EXTENSION = "jpg";
+
+    private final int width;
+    private final int height;
+
+    ImageVariant(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * 원본 이미지 키로 이 크기의 이미지 키를 만듭니다.
+     * @param originalKey
+     * @return
+     */
+    public String keyOf(String originalKey) {
+        return ImageStore.hashOf(originalKey) + "-" + this.name().toLowerCase() + "." + EXTENSION;
+    }
+
+    /**
+     * 원본 이미지 키로 이 크기의 이미지 URL을 만듭니다. (원본이 없으면 null)
+     * @param originalKey
+     * @return
+     */
+    public String urlOf(String originalKey) {
+        return originalKey == null ? null : ImageStore.urlOf(this.keyOf(originalKey));
+    }
+
+    /**
+     * 이미지 키가 ImageVariant로 만든 이미지의 키이면 그 ImageVariant를 반환합니다.
+     * @param key
+     * @return
+     */
+    public static Optional<ImageVariant> ofKey(String key) {
+        int start = key.indexOf('-');
+        int end = key.lastIndexOf('.');
+        if(start < 0 || end < start) {
+            return Optional.empty();
+        }
+        String name = key.substring(start + 1, end).toUpperCase();
+        for(ImageVariant variant : values()) {
+            if(variant.name().equals(name)) {
+                return Optional.of(variant);
+            }
+        }
+        return Optional.empty();
+    }
+}
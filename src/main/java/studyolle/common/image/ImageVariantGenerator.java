@@ -0,0 +1,158 @@
+package studyolle.common.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import studyolle.config.AsyncConfig;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 원본 이미지로 고정 크기의 이미지(ImageVariant)를 만듭니다.
+ * 원본은 한 번만 디코딩하고, 필요한 가장 큰 크기의 2배 정도까지만 읽도록 서브샘플링해서 큰 이미지도 메모리를 적게 사용합니다.
+ * 가운데를 기준으로 비율에 맞게 잘라 줄인 뒤 JPEG으로 저장하며, 요청 스레드가 아닌 이미지 작업 풀(AsyncConfig.IMAGE_EXECUTOR)에서 처리합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final ImageStore imageStore;
+
+    /**
+     * 원본 이미지로 아직 만들지 않은 variants를 만듭니다. (원본 키가 null이면 아무것도 하지 않습니다.)
+     * 실패해도 원본 이미지를 대신 제공하므로 로그만 남깁니다.
+     * @param originalKey
+     * @param variants
+     */
+    @Async(AsyncConfig.IMAGE_EXECUTOR)
+    public void generate(String originalKey, ImageVariant... variants) {
+        if(originalKey == null) {
+            return;
+        }
+        try {
+            this.createVariants(originalKey, variants);
+        } catch (IOException | RuntimeException e) {
+            log.warn("cannot create variants of image {}", originalKey, e);
+        }
+    }
+
+    void createVariants(String originalKey, ImageVariant... variants) throws IOException {
+        List<ImageVariant> missingVariants = Arrays.stream(variants)
+                .filter(variant -> this.imageStore.find(variant.keyOf(originalKey)).isEmpty())
+                .collect(Collectors.toList());
+        if(missingVariants.isEmpty()) {
+            return;
+        }
+        Path path = this.imageStore.find(originalKey)
+                .orElseThrow(() -> new IllegalArgumentException("이미지를 찾을 수 없습니다."));
+        BufferedImage image = this.decode(path, missingVariants);
+        if(image == null) {
+            log.warn("cannot decode image {}", originalKey);
+            return;
+        }
+        for(ImageVariant variant : missingVariants) {
+            this.imageStore.storeVariant(variant.keyOf(originalKey), encodeJpeg(resize(image, variant)));
+        }
+    }
+
+    private BufferedImage decode(Path path, List<ImageVariant> variants) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if(!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = subsampling(reader.getWidth(0), reader.getHeight(0), variants);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가장 큰 variant를 만들 때 줄이는 비율의 절반만큼 건너뛰며 읽어, 디코딩한 이미지가 필요한 크기의 2배 정도가 되도록 합니다.
+     */
+    private static int subsampling(int width, int height, List<ImageVariant> variants) {
+        double minRatio = variants.stream()
+                .mapToDouble(variant -> 1 / scaleOf(width, height, variant))
+                .min()
+                .orElse(1);
+        return Math.max(1, (int) (minRatio / 2));
+    }
+
+    private static double scaleOf(int width, int height, ImageVariant variant) {
+        return Math.max((double) variant.getWidth() / width, (double) variant.getHeight() / height);
+    }
+
+    /**
+     * 가운데를 기준으로 variant 비율에 맞게 자르고, 절반씩 줄인 뒤 variant 크기로 맞춥니다.
+     * 한 번에 많이 줄이면 bilinear 보간에서 픽셀이 누락되어 품질이 떨어지기 때문입니다.
+     */
+    private static BufferedImage resize(BufferedImage image, ImageVariant variant) {
+        double scale = scaleOf(image.getWidth(), image.getHeight(), variant);
+        int cropWidth = Math.max(1, Math.min(image.getWidth(), (int) Math.round(variant.getWidth() / scale)));
+        int cropHeight = Math.max(1, Math.min(image.getHeight(), (int) Math.round(variant.getHeight() / scale)));
+        BufferedImage resized = image.getSubimage((image.getWidth() - cropWidth) / 2
+                , (image.getHeight() - cropHeight) / 2, cropWidth, cropHeight);
+        while (resized.getWidth() / 2 >= variant.getWidth() && resized.getHeight() / 2 >= variant.getHeight()) {
+            resized = draw(resized, resized.getWidth() / 2, resized.getHeight() / 2);
+        }
+        return draw(resized, variant.getWidth(), variant.getHeight());
+    }
+
+    /**
+     * JPEG은 투명도가 없으므로 흰 배경 위에 그립니다.
+     */
+    private static BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
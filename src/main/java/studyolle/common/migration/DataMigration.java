@@ -0,0 +1,48 @@
+package studyolle.common.migration;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+/**
+ * 스키마 변경(Hibernate ddl) 후 기존 데이터를 한 번만 옮기거나 채우는 작업
+ * DataMigrationRunner가 애플리케이션 시작 시 이름 순서로 실행하고, 실행한 작업은 data_migration_history에 기록합니다.
+ * 새로 만든 DB에서도 실행되므로, 옮길 데이터(컬럼)가 없는 경우에도 실패하지 않아야 합니다.
+ */
+public interface DataMigration {
+
+    /**
+     * 실행 여부를 기록하는 이름 (실행 순서를 위해 "001-..." 처럼 번호로 시작합니다)
+     * @return
+     */
+    String getName();
+
+    void migrate(JdbcTemplate jdbcTemplate);
+
+    /**
+     * 테이블에 컬럼이 있는지 확인합니다. (DB마다 이름을 대문자/소문자로 저장하므로 둘 다 확인합니다)
+     * 매핑을 지운 옛 컬럼의 데이터를 옮길 때, 새로 만든 DB처럼 컬럼이 없으면 건너뛰기 위해 사용합니다.
+     * @param jdbcTemplate
+     * @param table
+     * @param column
+     * @return
+     */
+    static boolean hasColumn(JdbcTemplate jdbcTemplate, String table, String column) {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for(boolean upperCase : new boolean[]{false, true}) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null
+                        , upperCase ? table.toUpperCase() : table.toLowerCase()
+                        , upperCase ? column.toUpperCase() : column.toLowerCase())) {
+                    if(columns.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,29 @@
+package studyolle.common.migration;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * 실행한 DataMigration의 기록
+ */
+@Entity
+@Getter @EqualsAndHashCode(of = "name")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataMigrationHistory {
+
+    @Id
+    private String name;
+
+    private LocalDateTime appliedDateTime;
+
+    public DataMigrationHistory(String name) {
+        this.name = name;
+        this.appliedDateTime = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,8 @@
+package studyolle.common.migration;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public interface DataMigrationHistoryRepository extends JpaRepository<DataMigrationHistory, String> {
+}
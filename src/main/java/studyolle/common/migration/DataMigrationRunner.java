@@ -0,0 +1,55 @@
+package studyolle.common.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 아직 실행하지 않은 DataMigration을 이름 순서로 실행합니다.
+ * 모든 빈(Hibernate ddl 포함)이 만들어진 후, 스케줄러와 웹 서버가 시작하기 전에 실행되므로
+ * 옮기기 전의 데이터를 읽는 요청이나 작업이 없습니다.
+ * 작업과 실행 기록은 같은 트랜잭션에서 저장되며, 실패하면 애플리케이션이 시작하지 않습니다.
+ */
+@Component
+@Slf4j
+public class DataMigrationRunner implements SmartInitializingSingleton {
+
+    private final List<DataMigration> dataMigrations;
+    private final DataMigrationHistoryRepository dataMigrationHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataMigrationRunner(List<DataMigration> dataMigrations
+            , DataMigrationHistoryRepository dataMigrationHistoryRepository
+            , JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.dataMigrations = dataMigrations.stream()
+                .sorted(Comparator.comparing(DataMigration::getName))
+                .collect(Collectors.toList());
+        this.dataMigrationHistoryRepository = dataMigrationHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        this.dataMigrations.stream()
+                .filter(dataMigration -> !this.dataMigrationHistoryRepository.existsById(dataMigration.getName()))
+                .forEach(this::run);
+    }
+
+    private void run(DataMigration dataMigration) {
+        this.transactionTemplate.execute(status -> {
+            dataMigration.migrate(this.jdbcTemplate);
+            this.dataMigrationHistoryRepository.save(new DataMigrationHistory(dataMigration.getName()));
+            return null;
+        });
+        log.info("data migration applied : {}", dataMigration.getName());
+    }
+}
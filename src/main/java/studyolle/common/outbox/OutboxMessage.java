@@ -0,0 +1,81 @@
+package studyolle.common.outbox;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 저장되는 발행 대기 이벤트
+ * 처리에 성공하면 삭제되며, 실패하면 재시도 간격을 늘려가며 다시 처리합니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_message_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter @EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxMessage {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String eventType;
+
+    @Lob
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 이벤트를 가져간 OutboxRelay의 claim 토큰과 발행 제한 시간
+     * 가져간 노드만 발행, 삭제하며, 제한 시간이 지나면 다른 노드가 다시 가져갈 수 있습니다.
+     */
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime createdDateTime;
+
+    public static OutboxMessage create(String eventType, String payload) {
+        OutboxMessage outboxMessage = new OutboxMessage();
+        outboxMessage.eventType = eventType;
+        outboxMessage.payload = payload;
+        outboxMessage.status = OutboxStatus.PENDING;
+        outboxMessage.createdDateTime = LocalDateTime.now();
+        outboxMessage.nextAttemptAt = outboxMessage.createdDateTime;
+        return outboxMessage;
+    }
+
+    /**
+     * 처리 실패를 기록합니다.
+     * 최대 시도 횟수에 도달하면 FAILED 상태가 되어 더 이상 처리하지 않으며,
+     * 그 전까지는 (초기 대기시간 * 2^(시도횟수-1)) 이후에 다시 처리합니다. 가져간 상태는 해제합니다.
+     * @param error
+     * @param maxAttempts
+     * @param initialBackoffMillis
+     */
+    public void recordFailure(String error, int maxAttempts, long initialBackoffMillis) {
+        this.claimToken = null;
+        this.leaseUntil = null;
+        this.attempts++;
+        this.lastError = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        if(this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            return;
+        }
+        long backoffMillis = initialBackoffMillis << Math.min(this.attempts - 1, 20);
+        this.nextAttemptAt = LocalDateTime.now().plusNanos(backoffMillis * 1_000_000);
+    }
+}
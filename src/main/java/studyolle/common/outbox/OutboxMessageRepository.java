@@ -0,0 +1,52 @@
+package studyolle.common.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Transactional
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * 발행 할 때가 되었고 다른 노드가 가져가지 않은(또는 발행 제한 시간이 지난) 이벤트의 ID를 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select m.id from OutboxMessage m where m.status = studyolle.common.outbox.OutboxStatus.PENDING " +
+            "and m.nextAttemptAt <= :now and (m.leaseUntil is null or m.leaseUntil < :now) order by m.id")
+    List<Long> findReadyMessageIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조회한 이벤트 중 아직 다른 노드가 가져가지 않은 이벤트만 claim 토큰으로 가져갑니다.
+     * 조건부 update이므로 같은 이벤트를 동시에 가져가려고 해도 한 노드만 성공합니다.
+     * @return 가져간 이벤트 수
+     */
+    @Modifying
+    @Query("update OutboxMessage m set m.claimToken = :claimToken, m.leaseUntil = :leaseUntil " +
+            "where m.id in :ids and m.status = studyolle.common.outbox.OutboxStatus.PENDING " +
+            "and (m.leaseUntil is null or m.leaseUntil < :now)")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimToken") String claimToken
+            , @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    @Transactional(readOnly = true)
+    @Query("select m from OutboxMessage m where m.claimToken = :claimToken order by m.id")
+    List<OutboxMessage> findByClaimToken(@Param("claimToken") String claimToken);
+
+    @Transactional(readOnly = true)
+    Optional<OutboxMessage> findByIdAndClaimToken(Long id, String claimToken);
+
+    /**
+     * 가져간 노드의 claim 토큰이 그대로인 경우에만 발행한 이벤트를 삭제합니다.
+     * @return 삭제한 이벤트 수 (제한 시간이 지나 다른 노드가 다시 가져갔으면 0)
+     */
+    @Modifying
+    @Query("delete from OutboxMessage m where m.id = :id and m.claimToken = :claimToken")
+    int deleteByIdAndClaimToken(@Param("id") Long id, @Param("claimToken") String claimToken);
+}
@@ -0,0 +1,102 @@
+package studyolle.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.config.AppProperties;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * outbox 테이블의 이벤트를 주기적으로 읽어 발행합니다.
+ * 여러 노드가 함께 실행해도 같은 이벤트를 중복 발행하지 않도록 먼저 claim 토큰으로 배치를 가져간 뒤, 가져간 이벤트만 발행합니다.
+ * 이벤트 하나당 별도의 트랜잭션에서 리스너를 실행하고, 성공하면 메시지를 삭제합니다.
+ * 발행 제한 시간(app.outbox-lease-millis)이 지나 다른 노드가 다시 가져간 이벤트는 삭제하지 못하므로 트랜잭션을 롤백합니다.
+ * 리스너가 실패하면 트랜잭션을 롤백하고 재시도 정보를 기록합니다.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository, ApplicationEventPublisher eventPublisher
+            , ObjectMapper objectMapper, AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox-poll-delay:1000}")
+    public void relay() {
+        List<OutboxMessage> messages;
+        do {
+            String claimToken = UUID.randomUUID().toString();
+            messages = this.claim(claimToken);
+            messages.forEach(message -> this.deliver(message, claimToken));
+        } while (messages.size() == this.appProperties.getOutboxBatchSize());
+    }
+
+    /**
+     * 발행 할 이벤트를 배치 크기 만큼 가져갑니다.
+     * @param claimToken
+     * @return 이번 claim으로 가져간 이벤트
+     */
+    List<OutboxMessage> claim(String claimToken) {
+        return this.transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = this.outboxMessageRepository.findReadyMessageIds(now
+                    , PageRequest.of(0, this.appProperties.getOutboxBatchSize()));
+            if(ids.isEmpty() || this.outboxMessageRepository.claim(ids, claimToken
+                    , now.plusNanos(this.appProperties.getOutboxLeaseMillis() * 1_000_000), now) == 0) {
+                return new ArrayList<>();
+            }
+            return this.outboxMessageRepository.findByClaimToken(claimToken);
+        });
+    }
+
+    void deliver(OutboxMessage message, String claimToken) {
+        try {
+            this.transactionTemplate.execute(status -> {
+                this.eventPublisher.publishEvent(this.readEvent(message));
+                if(this.outboxMessageRepository.deleteByIdAndClaimToken(message.getId(), claimToken) == 0) {
+                    throw new IllegalStateException("발행 제한 시간이 지나 다른 노드가 가져간 이벤트입니다.");
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("outbox message {} ({}) failed : {}", message.getId(), message.getEventType(), e.getMessage());
+            this.transactionTemplate.execute(status -> {
+                this.outboxMessageRepository.findByIdAndClaimToken(message.getId(), claimToken)
+                        .ifPresent(persistMessage -> persistMessage.recordFailure(e.toString()
+                                , this.appProperties.getOutboxMaxAttempts()
+                                , this.appProperties.getOutboxInitialBackoffMillis()));
+                return null;
+            });
+        }
+    }
+
+    private Object readEvent(OutboxMessage message) {
+        try {
+            return this.objectMapper.readValue(message.getPayload(), Class.forName(message.getEventType()));
+        } catch (Exception e) {
+            throw new IllegalStateException(message.getEventType() + " 이벤트를 읽을 수 없습니다.", e);
+        }
+    }
+}
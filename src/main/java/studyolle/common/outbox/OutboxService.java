@@ -0,0 +1,31 @@
+package studyolle.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 저장합니다.
+ * 호출한 서비스의 트랜잭션과 함께 커밋되므로, 변경이 저장되면 이벤트도 반드시 저장됩니다.
+ * 저장된 이벤트는 OutboxRelay가 읽어 애플리케이션 이벤트로 발행합니다.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    public void append(Object event) {
+        try {
+            this.outboxMessageRepository.save(OutboxMessage.create(event.getClass().getName()
+                    , this.objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(event.getClass().getName() + " 이벤트를 저장 할 수 없습니다.", e);
+        }
+    }
+}
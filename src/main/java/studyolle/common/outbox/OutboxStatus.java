@@ -0,0 +1,6 @@
+package studyolle.common.outbox;
+
+public enum OutboxStatus {
+
+    PENDING, FAILED;
+}
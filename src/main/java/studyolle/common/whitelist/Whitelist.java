@@ -0,0 +1,37 @@
+package studyolle.common.whitelist;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 태그, 지역 입력의 자동완성에 사용하는 목록을 JSON으로 직렬화 해 둔 값
+ * ETag는 JSON 내용의 해시이므로 서버가 재시작되어도 목록이 같으면 같은 값을 가집니다.
+ */
+@Getter
+public class Whitelist {
+
+    private final long version;
+
+    private final String json;
+
+    private final String etag;
+
+    private Whitelist(long version, String json) {
+        this.version = version;
+        this.json = json;
+        this.etag = DigestUtils.md5DigestAsHex(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Whitelist of(long version, List<String> values, ObjectMapper objectMapper) {
+        try {
+            return new Whitelist(version, objectMapper.writeValueAsString(values));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("whitelist를 JSON으로 변환 할 수 없습니다.", e);
+        }
+    }
+}
@@ -11,4 +11,129 @@ public class AppProperties {
 
     private String host;
 
+    /**
+     * 로그인 후 메인 페이지에 보여줄 계정별 관심 스터디 피드의 최대 크기
+     */
+    private int studyFeedSize = 9;
+
+    /**
+     * 프로필, 배너 이미지를 저장하는 디렉토리
+     */
+    private String imageStorePath = "uploads";
+
+    /**
+     * 저장 할 수 있는 이미지의 최대 크기 (byte)
+     */
+    private int imageMaxSize = 2 * 1024 * 1024;
+
+    /**
+     * 썸네일(ImageVariant)을 만드는 작업 스레드 수
+     */
+    private int imageWorkers = 2;
+
+    /**
+     * 썸네일을 만들기 위해 대기 할 수 있는 최대 작업 수 (넘으면 버리고, 다음 요청 때 다시 만듭니다.)
+     */
+    private int imageWorkQueueCapacity = 100;
+
+    /**
+     * 로그인 시 조회한 계정을 캐시 할 최대 식별자(이메일, 닉네임) 수
+     */
+    private int principalCacheSize = 10000;
+
+    /**
+     * 로그인 시 조회한 계정을 캐시 할 시간 (ms)
+     */
+    private long principalCacheTtl = 60000;
+
+    /**
+     * 읽지 않은 알림 수를 캐시 할 최대 계정 수
+     */
+    private int notificationCountCacheSize = 10000;
+
+    /**
+     * 읽지 않은 알림 수 캐시를 DB와 맞추는 주기 (ms)
+     */
+    private long notificationCountReconcileDelay = 60000;
+
+    /**
+     * 여러 계정에 알림을 저장 할 때 한 번에 전송하는 insert 수
+     */
+    private int notificationBatchSize = 500;
+
+    /**
+     * outbox에서 한 번에 읽어 발행하는 이벤트 수
+     */
+    private int outboxBatchSize = 100;
+
+    /**
+     * outbox 이벤트의 최대 처리 시도 횟수 (초과 시 FAILED)
+     */
+    private int outboxMaxAttempts = 10;
+
+    /**
+     * outbox 이벤트 처리 실패 시 첫 재시도까지의 대기 시간 (ms), 실패 할 때마다 2배로 늘어납니다.
+     */
+    private long outboxInitialBackoffMillis = 1000;
+
+    /**
+     * outbox 이벤트를 가져간 노드가 발행을 마쳐야 하는 시간 (ms), 지나면 다른 노드가 다시 가져갈 수 있습니다.
+     */
+    private long outboxLeaseMillis = 60000;
+
+    /**
+     * 전송 대기 메일 큐의 크기
+     */
+    private int mailQueueCapacity = 1000;
+
+    /**
+     * 메일을 전송하는 워커 스레드 수
+     */
+    private int mailWorkers = 2;
+
+    /**
+     * 한 번의 SMTP 연결로 전송하는 최대 메일 수
+     */
+    private int mailBatchSize = 50;
+
+    /**
+     * 메일 전송 최대 시도 횟수 (초과 시 EmailDeadLetter로 저장)
+     */
+    private int mailMaxAttempts = 5;
+
+    /**
+     * 메일 전송 실패 시 첫 재시도까지의 대기 시간 (ms), 실패 할 때마다 2배로 늘어납니다.
+     */
+    private long mailRetryInitialBackoffMillis = 1000;
+
+    /**
+     * 이메일 알림을 계정별로 모아서 보내는 주기 (ms)
+     */
+    private long emailDigestWindow = 600000;
+
+    /**
+     * 이메일 알림 다이제스트를 한 번에 처리하는 계정 수
+     */
+    private int emailDigestBatchSize = 100;
+
+    /**
+     * 모임 참가 신청 마감/리마인더 작업을 확인하는 주기 (ms)
+     */
+    private long eventScheduleDelay = 60000;
+
+    /**
+     * 모임 참가 신청 마감/리마인더 작업을 미리 조회해두는 기간 (ms)
+     */
+    private long eventScheduleLookahead = 3600000;
+
+    /**
+     * 모임 참가 신청 마감/리마인더 작업을 한 번에 조회, 처리하는 모임 수
+     */
+    private int eventScheduleBatchSize = 500;
+
+    /**
+     * 모임 시작 몇 ms 전에 리마인더를 보낼지
+     */
+    private long eventReminderBefore = 86400000;
+
 }
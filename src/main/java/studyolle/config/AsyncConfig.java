@@ -1,17 +1,22 @@
 package studyolle.config;
 
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Component
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    public static final String IMAGE_EXECUTOR = "imageExecutor";
+    public static final String FEED_EXECUTOR = "feedExecutor";
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -24,4 +29,32 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 이미지 디코딩, 리사이즈는 CPU와 메모리를 많이 사용하므로 요청 스레드나 다른 비동기 작업과 분리된 작은 풀에서 처리합니다.
+     * 대기 작업이 가득 차면 버리고, 썸네일이 없는 이미지는 다음 요청 때 다시 만듭니다.
+     */
+    @Bean(IMAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor imageExecutor(AppProperties appProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(appProperties.getImageWorkers());
+        executor.setMaxPoolSize(appProperties.getImageWorkers());
+        executor.setQueueCapacity(appProperties.getImageWorkQueueCapacity());
+        executor.setThreadNamePrefix("ImageWorker");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        return executor;
+    }
+
+    /**
+     * 스터디 피드 작업은 같은 (계정, 스터디) 행을 지우고 다시 넣으므로 동시에 실행되면 유니크 제약을 위반 할 수 있습니다.
+     * 하나의 스레드에서 순서대로 처리하며, 피드가 어긋나지 않도록 대기 작업은 버리지 않습니다.
+     */
+    @Bean(FEED_EXECUTOR)
+    public ThreadPoolTaskExecutor feedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("FeedWorker");
+        return executor;
+    }
 }
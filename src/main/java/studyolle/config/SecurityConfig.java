@@ -32,7 +32,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .mvcMatchers("", "/", "/login", "/sign-up", "/check-email-token"
                 , "/email-login", "/check-email-login", "/login-link", "/search/study")
                     .permitAll()
-                .mvcMatchers(HttpMethod.GET, "/profile/**")
+                .mvcMatchers(HttpMethod.GET, "/profile/**", "/uploads/**")
                     .permitAll()
                 .anyRequest()
                     .authenticated()
@@ -4,11 +4,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.StaticResourceLocation;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import studyolle.account.domain.security.CurrentUserAccountArgumentResolver;
 import studyolle.notification.application.NotificationInterceptor;
 import studyolle.notification.domain.NotificationRepository;
+import studyolle.study.application.StudyMemberInterceptor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -21,6 +24,8 @@ import java.util.stream.Collectors;
 public class WebConfig implements WebMvcConfigurer {
 
     private final NotificationInterceptor notificationInterceptor;
+    private final StudyMemberInterceptor studyMemberInterceptor;
+    private final CurrentUserAccountArgumentResolver currentUserAccountArgumentResolver;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -30,5 +35,12 @@ public class WebConfig implements WebMvcConfigurer {
         staticPatterns.add("/node_modules/**");
         registry.addInterceptor(this.notificationInterceptor)
                 .excludePathPatterns(staticPatterns);
+        registry.addInterceptor(this.studyMemberInterceptor)
+                .excludePathPatterns(staticPatterns);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(this.currentUserAccountArgumentResolver);
     }
 }
@@ -1,13 +1,23 @@
 package studyolle.enrollment.application;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import studyolle.enrollment.domain.Enrollment;
+import lombok.NoArgsConstructor;
 
-@RequiredArgsConstructor @Getter
+import java.util.List;
+
+/**
+ * 모임 참가 신청의 승인/거부를 알리는 이벤트
+ * outbox에 JSON으로 저장되므로 엔티티가 아닌 참가 신청 ID를 가지며,
+ * 대기자 승인처럼 한 번에 여러 참가 신청이 바뀐 경우 하나의 이벤트로 묶어서 발행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
 public class EnrollmentEvent {
 
-    private final Enrollment enrollment;
+    private List<Long> enrollmentIds;
 
-    private final String message;
+    private String message;
 }
@@ -2,41 +2,75 @@ package studyolle.enrollment.application;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import studyolle.account.domain.Account;
 import studyolle.enrollment.domain.Enrollment;
 import studyolle.enrollment.domain.EnrollmentRepository;
-import studyolle.event.domain.Event;
+import studyolle.event.application.EventReminderEvent;
+import studyolle.notification.application.EmailDigestService;
+import studyolle.notification.application.NotificationCountCache;
+import studyolle.notification.domain.EmailDigestItem;
 import studyolle.notification.domain.Notification;
 import studyolle.notification.domain.NotificationRepository;
 import studyolle.notification.domain.NotificationType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
 @Component
-@Async
 @Transactional
 @RequiredArgsConstructor
 public class EnrollmentEventListener {
 
+    private final EnrollmentRepository enrollmentRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationCountCache notificationCountCache;
+    private final EmailDigestService emailDigestService;
 
+    /**
+     * 참가 신청 결과를 신청한 계정들에게 알립니다.
+     * 여러 참가 신청이 한 번에 승인된 경우 알림을 JDBC 배치로 한 번에 저장합니다.
+     * @param enrollmentEvent
+     */
     @EventListener
     public void enrollmentEvent(EnrollmentEvent enrollmentEvent) {
-        Enrollment enrollment = enrollmentEvent.getEnrollment();
-        Account account = enrollment.getAccount();
-        Notification notification = Notification.create(enrollment.getEvent(), account
-                , enrollmentEvent.getMessage(), NotificationType.EVENT_ENROLLMENT);
+        this.notify(this.enrollmentRepository.findWithEventAndAccountByIdIn(enrollmentEvent.getEnrollmentIds())
+                , enrollment -> enrollmentEvent.getMessage(), NotificationType.EVENT_ENROLLMENT);
+    }
 
-        this.addNotification(account, notification);
+    /**
+     * 곧 시작하는 모임들을 참가 확정된 계정들에게 한 번에 알립니다.
+     * @param eventReminderEvent
+     */
+    @EventListener
+    public void eventReminderEvent(EventReminderEvent eventReminderEvent) {
+        this.notify(this.enrollmentRepository
+                        .findWithEventAndAccountByEventIdInAndAccepted(eventReminderEvent.getEventIds(), true)
+                , enrollment -> enrollment.getEvent().getTitle() + " 모임이 곧 시작합니다."
+                , NotificationType.EVENT_REMINDER);
     }
 
-    private void addNotification(Account account, Notification notification) {
-        if(account.isStudyEnrollmentResultByWeb()) {
-            this.notificationRepository.save(notification);
-        }
-        if(account.isStudyEnrollmentResultByEmail()) {
-            // TODO 메일 서비스 만들어 진 후 메일 보내기
+    private void notify(List<Enrollment> enrollments, Function<Enrollment, String> message
+            , NotificationType notificationType) {
+        List<Notification> notifications = new ArrayList<>();
+        List<EmailDigestItem> emailDigestItems = new ArrayList<>();
+        for(Enrollment enrollment : enrollments) {
+            Account account = enrollment.getAccount();
+            Notification notification = Notification.create(enrollment.getEvent(), account
+                    , message.apply(enrollment), notificationType);
+            if(account.isStudyEnrollmentResultByWeb()) {
+                notifications.add(notification);
+            }
+            if(account.isStudyEnrollmentResultByEmail()) {
+                emailDigestItems.add(EmailDigestItem.of(account.getId(), account.getEmail()
+                        , account.getNickname(), notification));
+            }
         }
+
+        this.notificationRepository.bulkInsert(notifications);
+        notifications.forEach(notification -> this.notificationCountCache.increment(notification.getAccount().getId()));
+        this.emailDigestService.add(emailDigestItems);
     }
 }
@@ -4,13 +4,12 @@ import lombok.*;
 import studyolle.account.domain.Account;
 import studyolle.event.domain.Event;
 
-import javax.persistence.Entity;
-import javax.persistence.GeneratedValue;
-import javax.persistence.Id;
-import javax.persistence.ManyToOne;
+import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_enrollment_event_account", columnNames = {"event_id", "account_id"})
+        , indexes = @Index(name = "idx_enrollment_waiting", columnList = "event_id, accepted, enrolledAt"))
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
 public class Enrollment {
@@ -38,8 +37,16 @@ public class Enrollment {
         this.accepted = false;
     }
 
+    public boolean canCheckIn() {
+        return this.isAccepted() && !this.isAttended();
+    }
+
+    public boolean canCancelCheckIn() {
+        return this.isAccepted() && this.isAttended();
+    }
+
     public void checkIn() {
-        if(this.isAccepted() && !this.isAttended()) {
+        if(this.canCheckIn()) {
             this.attended = true;
             return;
         }
@@ -47,7 +54,7 @@ public class Enrollment {
     }
 
     public void cancelCheckIn() {
-        if(this.isAccepted() && this.isAttended()) {
+        if(this.canCancelCheckIn()) {
             this.attended = false;
             return;
         }
@@ -1,11 +1,18 @@
 package studyolle.enrollment.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import studyolle.account.domain.Account;
 import studyolle.event.domain.Event;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +24,56 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 
     Optional<Enrollment> findByEventAndAccount(Event event, Account account);
 
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"event", "event.study", "account"})
+    List<Enrollment> findWithEventAndAccountByIdIn(Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"event", "event.study", "account"})
+    List<Enrollment> findWithEventAndAccountByEventIdInAndAccepted(Collection<Long> eventIds, boolean accepted);
+
+    /**
+     * 승인을 기다리는 참가 신청을 신청 순서대로 pageable 크기만큼만 조회합니다.
+     * (event_id, accepted, enrolled_at) 인덱스를 사용합니다.
+     * @param event
+     * @param pageable
+     * @return
+     */
+    @Query("select e from Enrollment e where e.event = :event and e.accepted = false order by e.enrolledAt, e.id")
+    List<Enrollment> findWaitingEnrollments(@Param("event") Event event, Pageable pageable);
+
+    /**
+     * 요청한 참가 신청 중 승인 여부가 accepted 인 참가 신청을 잠그고 (ID 순) 조회합니다.
+     * 다른 트랜잭션이 먼저 잠근 경우 커밋될 때까지 기다린 뒤 변경된 값으로 다시 조건을 확인하므로,
+     * 이어서 변경하는 참가 신청은 이 트랜잭션이 실제로 변경하는 참가 신청과 같습니다.
+     * @param ids
+     * @param accepted
+     * @return
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Enrollment e where e.id in :ids and e.accepted = :accepted order by e.id")
+    List<Enrollment> findForUpdateByIdInAndAccepted(@Param("ids") Collection<Long> ids
+            , @Param("accepted") boolean accepted);
+
+    /**
+     * 아직 승인되지 않은 참가 신청만 승인합니다.
+     * @param ids
+     * @return 승인한 참가 신청 수
+     */
+    @Modifying
+    @Query("update Enrollment e set e.accepted = true where e.id in :ids and e.accepted = false")
+    int acceptWaitingEnrollments(@Param("ids") Collection<Long> ids);
+
+    List<Enrollment> findByEventAndIdIn(Event event, Collection<Long> ids);
+
+    @Modifying
+    @Query("update Enrollment e set e.accepted = :accepted where e.id in :ids and e.accepted <> :accepted")
+    int updateAccepted(@Param("ids") Collection<Long> ids, @Param("accepted") boolean accepted);
+
+    @Modifying
+    @Query("update Enrollment e set e.attended = :attended where e.id in :ids")
+    int updateAttended(@Param("ids") Collection<Long> ids, @Param("attended") boolean attended);
+
     @Transactional(readOnly = true)
     @EntityGraph(attributePaths = {"event"})
     List<Enrollment> findWithEventByAccountAndAcceptedAndAttended(Account account, boolean accepted, boolean attended);
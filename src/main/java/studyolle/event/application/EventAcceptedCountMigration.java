@@ -0,0 +1,24 @@
+package studyolle.event.application;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import studyolle.common.migration.DataMigration;
+
+/**
+ * accepted_count 컬럼이 추가되기 전에 만들어진 모임의 승인 된 참가 신청 수를 채웁니다.
+ * (채우지 않으면 이미 모집인원이 찬 선착순 모임도 0명으로 보고 참가 신청을 다시 승인합니다)
+ */
+@Component
+public class EventAcceptedCountMigration implements DataMigration {
+
+    @Override
+    public String getName() {
+        return "001-event-accepted-count";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("update events e set accepted_count = " +
+                "(select count(*) from enrollment en where en.event_id = e.id and en.accepted = true)");
+    }
+}
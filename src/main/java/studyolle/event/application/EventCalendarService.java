@@ -0,0 +1,103 @@
+package studyolle.event.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import studyolle.account.domain.Account;
+import studyolle.event.domain.EventRepository;
+import studyolle.event.dto.CalendarEvent;
+import studyolle.event.dto.CalendarPage;
+import studyolle.study.domain.StudyRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계정이 관리하거나 참여중인 스터디의 모임을 기간별로 조회합니다.
+ * 전체 모임을 읽지 않고 (시작 시간, ID) keyset 페이징으로 필요한 만큼만 읽습니다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class EventCalendarService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final Duration MAX_RANGE = Duration.ofDays(400);
+
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final EventRepository eventRepository;
+    private final StudyRepository studyRepository;
+
+    /**
+     * 시작 시간이 [from, to) 구간인 모임을 cursor 이후부터 size 개 조회합니다.
+     * @param account
+     * @param from
+     * @param to
+     * @param cursor 앞 페이지의 CalendarPage.next (첫 페이지는 null)
+     * @param size
+     * @return
+     */
+    public CalendarPage findEvents(Account account, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        if(!from.isBefore(to) || Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if(size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회 할 수 있는 모임 수는 1 ~ " + MAX_PAGE_SIZE + "개 입니다.");
+        }
+
+        List<Long> studyIds = this.studyRepository.findIdsByManagerOrMember(account);
+        if(studyIds.isEmpty()) {
+            return new CalendarPage(new ArrayList<>(), null);
+        }
+
+        LocalDateTime afterStartDateTime = from;
+        Long afterId = 0L;
+        if(cursor != null && !cursor.isEmpty()) {
+            int index = cursor.lastIndexOf(CURSOR_DELIMITER);
+            try {
+                afterStartDateTime = LocalDateTime.parse(cursor.substring(0, index));
+                afterId = Long.valueOf(cursor.substring(index + 1));
+            } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+        }
+
+        List<CalendarEvent> events = new ArrayList<>(this.eventRepository.findCalendarEvents(studyIds, from, to
+                , afterStartDateTime, afterId, PageRequest.of(0, size + 1)));
+        String next = null;
+        if(events.size() > size) {
+            events.remove(size);
+            CalendarEvent last = events.get(size - 1);
+            next = last.getStartDateTime() + CURSOR_DELIMITER + last.getId();
+        }
+        return new CalendarPage(events, next);
+    }
+
+    /**
+     * 시작 시간이 [from, to) 구간인 모임을 마지막 페이지까지 pageSize 개씩 이어서 조회합니다.
+     * 한 번에 읽는 모임 수는 maxEvents 개를 넘지 않으며, 넘는 모임은 포함하지 않습니다.
+     * @param account
+     * @param from
+     * @param to
+     * @param pageSize
+     * @param maxEvents
+     * @return
+     */
+    public List<CalendarEvent> findAllEvents(Account account, LocalDateTime from, LocalDateTime to
+            , int pageSize, int maxEvents) {
+        List<CalendarEvent> events = new ArrayList<>();
+        String cursor = null;
+        do {
+            CalendarPage calendarPage = this.findEvents(account, from, to, cursor
+                    , Math.min(pageSize, maxEvents - events.size()));
+            events.addAll(calendarPage.getEvents());
+            cursor = calendarPage.getNext();
+        } while(cursor != null && events.size() < maxEvents);
+        return events;
+    }
+}
@@ -0,0 +1,20 @@
+package studyolle.event.application;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 곧 시작하는 모임을 참가 확정된 계정들에게 알리는 이벤트
+ * outbox에 JSON으로 저장되므로 엔티티가 아닌 모임 ID를 가지며, 같은 시각에 처리한 모임들을 하나의 이벤트로 묶어서 발행합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class EventReminderEvent {
+
+    private List<Long> eventIds;
+}
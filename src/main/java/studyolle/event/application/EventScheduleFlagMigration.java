@@ -0,0 +1,30 @@
+package studyolle.event.application;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import studyolle.common.migration.DataMigration;
+
+import java.time.LocalDateTime;
+
+/**
+ * enrollment_closed, reminder_sent 컬럼이 추가되기 전에 만들어진 모임 중
+ * 이미 마감 시간/시작 시간이 지난 모임을 마감, 리마인더 전송 완료로 채웁니다.
+ * (채우지 않으면 EventScheduler가 지난 모임을 모두 다시 마감 처리하고 리마인더를 보냅니다)
+ */
+@Component
+public class EventScheduleFlagMigration implements DataMigration {
+
+    @Override
+    public String getName() {
+        return "002-event-schedule-flags";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("update events set enrollment_closed = true " +
+                "where enrollment_closed = false and end_enrollment_date_time <= ?", now);
+        jdbcTemplate.update("update events set reminder_sent = true " +
+                "where reminder_sent = false and start_date_time <= ?", now);
+    }
+}
@@ -0,0 +1,207 @@
+package studyolle.event.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.common.outbox.OutboxService;
+import studyolle.config.AppProperties;
+import studyolle.event.domain.Event;
+import studyolle.event.domain.EventRepository;
+import studyolle.event.dto.EventDueTime;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 참가 신청 마감 시간이 된 모임을 마감 처리하고, 곧 시작하는 모임의 리마인더를 보냅니다.
+ * 전체 모임을 주기적으로 읽지 않고, 처리 시각이 horizon 이전인 작업만 인덱스로 조회해 처리 시각 순의 우선순위 큐에 넣습니다.
+ * 주기마다 큐에서 처리 시각이 된 작업만 꺼내 묶어서 처리하고, horizon에 도달하면 다음 구간을 다시 조회합니다.
+ * 그 사이에 만들어지거나 수정된 모임은 schedule()로 큐에 추가합니다.
+ * 큐에 남은 작업이 오래된 경우(모임 수정/삭제)에도 조건부 update로 현재 값을 기준으로 처리하며,
+ * 리마인더는 조건부 update가 성공한 모임에만 보내므로 여러 스케줄러가 같은 모임을 처리해도 한 번만 보냅니다.
+ */
+@Component
+@Slf4j
+public class EventScheduler {
+
+    private final EventRepository eventRepository;
+    private final OutboxService outboxService;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>(
+            Comparator.comparing(Task::getDueAt).thenComparing(Task::getEventId));
+
+    private LocalDateTime horizon = LocalDateTime.MIN;
+
+    public EventScheduler(EventRepository eventRepository, OutboxService outboxService
+            , AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.outboxService = outboxService;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 만들어지거나 수정된 모임의 마감/리마인더 작업을 큐에 추가합니다.
+     * 처리 시각이 이미 조회한 구간(horizon) 이후인 작업은 다음 조회 때 읽으므로 추가하지 않습니다.
+     * 트랜잭션 안에서 호출된 경우 커밋된 후에 추가합니다.
+     * @param event
+     */
+    public void schedule(Event event) {
+        List<Task> tasks = Arrays.asList(
+                new Task(event.getEndEnrollmentDateTime(), event.getId(), TaskType.CLOSE_ENROLLMENT),
+                new Task(this.remindAt(event.getStartDateTime()), event.getId(), TaskType.REMIND));
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(tasks);
+                }
+            });
+        } else {
+            this.offer(tasks);
+        }
+    }
+
+    private synchronized void offer(List<Task> tasks) {
+        tasks.stream()
+                .filter(task -> task.getDueAt().isBefore(this.horizon))
+                .forEach(this.queue::add);
+    }
+
+    @Scheduled(fixedDelayString = "${app.event-schedule-delay:60000}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> dueTasks = this.pollDueTasks(now);
+        if(dueTasks.isEmpty()) {
+            return;
+        }
+
+        Map<TaskType, List<Long>> eventIds = dueTasks.stream().collect(Collectors.groupingBy(Task::getType
+                , () -> new EnumMap<>(TaskType.class)
+                , Collectors.mapping(Task::getEventId, Collectors.toList())));
+        this.chunks(eventIds.get(TaskType.CLOSE_ENROLLMENT)).forEach(ids -> this.transactionTemplate
+                .execute(status -> this.eventRepository.closeEnrollments(ids, now)));
+        this.chunks(eventIds.get(TaskType.REMIND)).forEach(ids -> this.transactionTemplate
+                .execute(status -> this.remind(ids, now)));
+    }
+
+    /**
+     * 처리 시각이 된 작업을 큐에서 꺼냅니다.
+     * horizon에 도달했으면 다음 구간의 작업을 조회해서 큐를 다시 채웁니다.
+     * @param now
+     * @return
+     */
+    synchronized List<Task> pollDueTasks(LocalDateTime now) {
+        if(!now.isBefore(this.horizon)) {
+            this.refill(now);
+        }
+        List<Task> dueTasks = new ArrayList<>();
+        while (!this.queue.isEmpty() && !this.queue.peek().getDueAt().isAfter(now)) {
+            dueTasks.add(this.queue.poll());
+        }
+        return dueTasks;
+    }
+
+    /**
+     * now부터 app.event-schedule-lookahead 동안 처리 할 작업을 조회해서 큐를 다시 채웁니다.
+     * 한 번에 app.event-schedule-batch-size 개까지만 읽으며, 더 남아있으면 마지막으로 읽은 작업의 시각까지를 이번 구간으로 합니다.
+     * @param now
+     */
+    private void refill(LocalDateTime now) {
+        int batchSize = this.appProperties.getEventScheduleBatchSize();
+        LocalDateTime until = now.plus(Duration.ofMillis(this.appProperties.getEventScheduleLookahead()));
+        Duration remindBefore = Duration.ofMillis(this.appProperties.getEventReminderBefore());
+
+        List<EventDueTime> deadlines = this.eventRepository.findEnrollmentDeadlines(until, PageRequest.of(0, batchSize));
+        List<EventDueTime> startTimes = this.eventRepository.findReminderStartTimes(until.plus(remindBefore)
+                , PageRequest.of(0, batchSize));
+        if(deadlines.size() == batchSize) {
+            until = this.min(until, deadlines.get(batchSize - 1).getDateTime());
+        }
+        if(startTimes.size() == batchSize) {
+            until = this.min(until, this.remindAt(startTimes.get(batchSize - 1).getDateTime()));
+        }
+
+        this.queue.clear();
+        for(EventDueTime deadline : deadlines) {
+            this.queue.add(new Task(deadline.getDateTime(), deadline.getEventId(), TaskType.CLOSE_ENROLLMENT));
+        }
+        for(EventDueTime startTime : startTimes) {
+            this.queue.add(new Task(this.remindAt(startTime.getDateTime()), startTime.getEventId(), TaskType.REMIND));
+        }
+        // 같은 시각의 작업이 잘려서 읽힌 경우에도 다음 조회에서 다시 읽도록, 다음 구간은 마지막 시각부터 시작합니다.
+        this.horizon = until.isAfter(now) ? until : now.plusNanos(1);
+    }
+
+    /**
+     * 리마인더를 보낼 시각이 된 모임을 리마인더 전송 처리하고 EventReminderEvent를 발행합니다.
+     * 조회한 모임마다 조건부 update로 전송 처리하고, 이 트랜잭션이 실제로 전송 처리한 모임만 알립니다.
+     * (다른 스케줄러나 이전 작업이 먼저 처리한 모임은 update 결과가 0이므로 다시 알리지 않습니다)
+     * 이미 시작한 모임은 알리지 않고 전송 처리만 합니다.
+     * @param ids
+     * @param now
+     * @return
+     */
+    int remind(List<Long> ids, LocalDateTime now) {
+        List<EventDueTime> targets = this.eventRepository.findReminderTargets(ids, now.plus(Duration
+                .ofMillis(this.appProperties.getEventReminderBefore())));
+        List<Long> upcomingIds = targets.stream()
+                .filter(target -> this.eventRepository.markReminderSent(target.getEventId()) > 0)
+                .filter(target -> target.getDateTime().isAfter(now))
+                .map(EventDueTime::getEventId)
+                .collect(Collectors.toList());
+        if(!upcomingIds.isEmpty()) {
+            this.outboxService.append(new EventReminderEvent(upcomingIds));
+        }
+        log.info("sent reminders of {} events", upcomingIds.size());
+        return upcomingIds.size();
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        if(ids == null) {
+            return Collections.emptyList();
+        }
+        int batchSize = this.appProperties.getEventScheduleBatchSize();
+        List<List<Long>> chunks = new ArrayList<>();
+        for(int i = 0; i < ids.size(); i += batchSize) {
+            chunks.add(ids.subList(i, Math.min(i + batchSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private LocalDateTime remindAt(LocalDateTime startDateTime) {
+        return startDateTime.minus(Duration.ofMillis(this.appProperties.getEventReminderBefore()));
+    }
+
+    private LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    enum TaskType {
+        CLOSE_ENROLLMENT, REMIND
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class Task {
+
+        private final LocalDateTime dueAt;
+
+        private final Long eventId;
+
+        private final TaskType type;
+    }
+}
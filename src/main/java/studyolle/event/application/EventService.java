@@ -1,21 +1,30 @@
 package studyolle.event.application;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import studyolle.account.domain.Account;
+import studyolle.common.outbox.OutboxService;
+import studyolle.config.AppProperties;
 import studyolle.enrollment.application.EnrollmentEvent;
 import studyolle.enrollment.domain.Enrollment;
 import studyolle.enrollment.domain.EnrollmentRepository;
 import studyolle.event.domain.Event;
 import studyolle.event.domain.EventRepository;
+import studyolle.event.domain.EventType;
+import studyolle.event.dto.EnrollmentAction;
 import studyolle.event.dto.EventForm;
+import studyolle.event.dto.EventSummary;
 import studyolle.study.application.StudyUpdatedEvent;
 import studyolle.study.domain.Study;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -24,13 +33,16 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxService outboxService;
+    private final EventScheduler eventScheduler;
+    private final AppProperties appProperties;
 
     public void createEvent(Study study, Account account, EventForm eventForm) {
         Event event = eventForm.toEntity();
         event.init(study, account);
         this.eventRepository.save(event);
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study
+        this.eventScheduler.schedule(event);
+        this.outboxService.append(new StudyUpdatedEvent(study.getId()
                 , "새로운 모임(" + event.getTitle() + ")이 추가되었습니다."));
     }
 
@@ -40,9 +52,15 @@ public class EventService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID를 가진 모임이 없습니다."));
     }
 
+    /**
+     * 스터디의 모임 목록을 현재 계정의 참가 상태와 함께 요약해서 반환합니다.
+     * @param study
+     * @param account
+     * @return
+     */
     @Transactional(readOnly = true)
-    public List<Event> findWithEnrollmentsByStudy(Study study) {
-        return this.eventRepository.findWithEnrollmentsByStudyOrderByStartDateTime(study);
+    public List<EventSummary> findEventSummaries(Study study, Account account) {
+        return this.eventRepository.findSummariesByStudy(study, account);
     }
 
     public Event findWithEnrollmentsById(Long id) {
@@ -58,16 +76,29 @@ public class EventService {
      * @return
      */
     public Event updateEvent(Long id, EventForm eventForm, Study study) {
-        Event event = this.findWithEnrollmentsById(id);
+        Event event = this.findById(id);
         if(this.canChangeLimitOfEnrollments(eventForm, event)) {
             event.updateByForm(eventForm);
-            event.acceptWaitingEnrollment();
+            this.acceptWaitingEnrollments(event);
+            this.reschedule(event);
         }
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study
+        this.outboxService.append(new StudyUpdatedEvent(study.getId()
                 , event.getTitle() + "모임 내용이 수정되었습니다."));
         return event;
     }
 
+    /**
+     * 수정된 마감/시작 시간에 맞게 참가 신청 마감, 리마인더 전송 여부를 되돌리고 다시 예약합니다.
+     * @param event
+     */
+    private void reschedule(Event event) {
+        LocalDateTime now = LocalDateTime.now();
+        this.eventRepository.reopenEnrollment(event.getId(), now);
+        this.eventRepository.resetReminder(event.getId()
+                , now.plus(Duration.ofMillis(this.appProperties.getEventReminderBefore())));
+        this.eventScheduler.schedule(event);
+    }
+
     /**
      * 모집인원을 변경 할 수 있는지 여부 반환.
      * 변경을 원하는 모집인원이 현재까지 확정된 참가 신청 수보다 크거나 같은 경우.
@@ -76,87 +107,125 @@ public class EventService {
      * @return
      */
     private boolean canChangeLimitOfEnrollments(EventForm eventForm, Event event) {
-        return event.getEnrollments().size() <= eventForm.getLimitOfEnrollments();
+        return event.getAcceptedCount() <= eventForm.getLimitOfEnrollments();
     }
 
     public void deleteEvent(Long id, Study study) {
         Event event = this.eventRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID를 가진 모임이 없습니다."));
         this.eventRepository.delete(event);
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study
+        this.outboxService.append(new StudyUpdatedEvent(study.getId()
                 , event.getTitle() + " 모임이 삭제되었습니다."));
     }
 
     /**
      * 새로운 등록을 모임에 추가합니다.
+     * 선착순 모임은 승인 된 참가 신청 수를 조건부 update로 증가시켜 자리를 확보한 경우에만 바로 승인합니다.
+     * 같은 계정의 중복 등록은 (event_id, account_id) 유니크 제약으로 막습니다.
      * @param account
      * @param id
      */
     public void addNewEnrollment(Account account, Long id) {
-        Event event = this.findWithEnrollmentsById(id);
-        Enrollment enrollment = this.createEnrollment(event, account);
-        event.addEnrollment(enrollment);
-
-    }
-
-    /**
-     * 새로운 등록을 생성합니다.
-     * 요청한 모임과 계정 정보로 이미 생성된 등록이 있는지 중복체크 합니다.
-     * 중복되는 등록이 있는경우 오류를 발생합니다.
-     * 받은 계정정보와 현재시간을 등록시간으로 초기화 하며,
-     * 모임의 종류에 따라 승인여부를 초기화해줍니다. (선착순 모임이며 남은 자리가 있는 경우 바로 승인)
-     * @param event
-     * @param account
-     * @return
-     */
-    private Enrollment createEnrollment(Event event, Account account) {
+        Event event = this.findById(id);
+        if(event.isEnrollmentClosed()) {
+            throw new IllegalArgumentException("참가 신청이 마감된 모임입니다.");
+        }
         if(this.enrollmentRepository.existsByEventAndAccount(event, account)) {
             throw new IllegalArgumentException("이미 모임에 등록되어 있습니다.");
         }
 
+        boolean accepted = this.eventRepository.increaseAcceptedCountIfAvailable(id, EventType.FCFS, 1) > 0;
         Enrollment enrollment = Enrollment.builder()
+                .event(event)
                 .account(account)
-                .accepted(event.isImmediatelyAcceptEnrollment())
+                .accepted(accepted)
                 .enrolledAt(LocalDateTime.now())
                 .build();
-        return this.enrollmentRepository.save(enrollment);
+        try {
+            this.enrollmentRepository.saveAndFlush(enrollment);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 모임에 등록되어 있습니다.");
+        }
     }
 
     public void cancelEnrollment(Account account, Long id) {
         Event event = this.deleteEnrollment(account, id);
-        event.acceptWaitingEnrollment();
+        this.acceptWaitingEnrollments(event);
     }
 
     /**
      * 모임의 등록을 취소합니다.
+     * 승인 된 등록인 경우 승인 된 참가 신청 수를 감소시킵니다.
      * @param account
      * @param id
      */
     private Event deleteEnrollment(Account account, Long id) {
-        Event event = this.findWithEnrollmentsById(id);
+        Event event = this.findById(id);
         Enrollment enrollment = this.enrollmentRepository.findByEventAndAccount(event, account)
                 .orElseThrow(() -> new IllegalArgumentException("모임에 등록되어 있지 않습니다."));
-        event.deleteEnrollment(enrollment);
+        if(enrollment.isAccepted()) {
+            this.eventRepository.decreaseAcceptedCount(event.getId(), 1);
+        }
         this.enrollmentRepository.delete(enrollment);
         return event;
     }
 
+    /**
+     * 선착순 모임의 경우 등록취소/모집인원 증가 등으로 생긴 남은 자리 수 만큼만 대기중인 등록을 신청 순서대로 승인합니다.
+     * 남은 자리 수(N)를 DB에서 읽고, 다음 대기자 N명만 조회한 뒤 조건부 update로 그만큼의 자리를 한 번에 확보합니다.
+     * 그 사이에 다른 요청이 자리를 가져가 확보에 실패하면 남은 자리 수를 다시 읽어 반복합니다.
+     * 승인한 대기자들은 하나의 EnrollmentEvent로 알립니다.
+     * @param event
+     */
+    private void acceptWaitingEnrollments(Event event) {
+        if(event.getEventType() != EventType.FCFS) {
+            return;
+        }
+
+        int remainSpots;
+        while ((remainSpots = this.eventRepository.findRemainSpotsById(event.getId())) > 0) {
+            List<Enrollment> waitingEnrollments = this.enrollmentRepository
+                    .findWaitingEnrollments(event, PageRequest.of(0, remainSpots));
+            if(waitingEnrollments.isEmpty()) {
+                return;
+            }
+            if(this.eventRepository.increaseAcceptedCountIfAvailable(event.getId(), EventType.FCFS
+                    , waitingEnrollments.size()) > 0) {
+                this.acceptEnrollments(event, waitingEnrollments);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 확보한 자리 수 만큼 조회한 대기자를 승인합니다.
+     * 그 사이에 다른 요청이 먼저 승인한 참가 신청은 잠금 후 다시 조회 할 때 제외되므로,
+     * 이 요청이 실제로 승인한 참가 신청만 모임에 반영하고 알리며, 나머지 자리는 돌려줍니다.
+     * @param event
+     * @param waitingEnrollments
+     */
+    void acceptEnrollments(Event event, List<Enrollment> waitingEnrollments) {
+        List<Enrollment> acceptingEnrollments = this.enrollmentRepository.findForUpdateByIdInAndAccepted(
+                waitingEnrollments.stream().map(Enrollment::getId).collect(Collectors.toList()), false);
+        List<Long> ids = acceptingEnrollments.stream().map(Enrollment::getId).collect(Collectors.toList());
+        int accepted = ids.isEmpty() ? 0 : this.enrollmentRepository.acceptWaitingEnrollments(ids);
+        if(accepted < waitingEnrollments.size()) {
+            this.eventRepository.decreaseAcceptedCount(event.getId(), waitingEnrollments.size() - accepted);
+        }
+        if(accepted == 0) {
+            return;
+        }
+        event.acceptWaitingEnrollments(acceptingEnrollments);
+        this.outboxService.append(new EnrollmentEvent(ids, event.getTitle() + " 모임에 참가 승인되었습니다."));
+    }
+
     /**
      * 해당 등록의 참석을 승인합니다.
      * @param eventId
      * @param enrollmentId
      */
     public void acceptEnrollment(Long eventId, Long enrollmentId) {
-        Event event = this.findWithEnrollmentsById(eventId);
-        Enrollment persistEnrollment = event.getEnrollments().stream()
-                .filter(enrollment -> enrollment.getId().equals(enrollmentId))
-                .findFirst().orElseThrow(() -> new IllegalArgumentException("모임에 등록되어 있지 않습니다."));
-        if(!event.canAccept(persistEnrollment)) {
-            throw new IllegalArgumentException("승인 할 수 없는 등록정보 입니다.");
-        }
-        persistEnrollment.accept();
-        this.eventPublisher.publishEvent(new EnrollmentEvent(persistEnrollment
-                , event.getTitle() + " 모임에 참가 승인되었습니다."));
+        this.updateEnrollments(eventId, Collections.singletonList(enrollmentId), EnrollmentAction.ACCEPT);
     }
 
     /**
@@ -165,14 +234,7 @@ public class EventService {
      * @param enrollmentId
      */
     public void rejectEnrollment(Long eventId, Long enrollmentId) {
-        Event event = this.findWithEnrollmentsById(eventId);
-        Enrollment enrollment = event.findEnrollment(enrollmentId);
-        if(!event.canReject(enrollment)) {
-            throw new IllegalArgumentException("취소 할 수 없는 등록정보 입니다.");
-        }
-        enrollment.reject();
-        this.eventPublisher.publishEvent(new EnrollmentEvent(enrollment
-                , event.getTitle() + " 모임에 참가 거부되었습니다."));
+        this.updateEnrollments(eventId, Collections.singletonList(enrollmentId), EnrollmentAction.REJECT);
     }
 
     /**
@@ -181,9 +243,7 @@ public class EventService {
      * @param enrollmentId
      */
     public void checkInEnrollment(Long eventId, Long enrollmentId) {
-        Event event = this.findWithEnrollmentsById(eventId);
-        Enrollment enrollment = event.findEnrollment(enrollmentId);
-        enrollment.checkIn();
+        this.updateEnrollments(eventId, Collections.singletonList(enrollmentId), EnrollmentAction.CHECK_IN);
     }
 
     /**
@@ -192,9 +252,73 @@ public class EventService {
      * @param enrollmentId
      */
     public void cancelCheckInEnrollment(Long eventId, Long enrollmentId) {
-        Event event = this.findWithEnrollmentsById(eventId);
-        Enrollment enrollment = event.findEnrollment(enrollmentId);
-        enrollment.cancelCheckIn();
+        this.updateEnrollments(eventId, Collections.singletonList(enrollmentId), EnrollmentAction.CANCEL_CHECK_IN);
+    }
+
+    /**
+     * 여러 등록에 승인/거부/출석체크/출석체크 취소를 한 번에 적용합니다.
+     * 모임의 전체 등록 목록을 읽지 않고 요청한 등록만 조회하며, 하나라도 적용 할 수 없으면 모두 취소됩니다.
+     * 변경은 한 번의 update 쿼리로 처리하고, 승인/거부 결과는 하나의 EnrollmentEvent로 알립니다.
+     * @param eventId
+     * @param enrollmentIds
+     * @param action
+     */
+    public void updateEnrollments(Long eventId, List<Long> enrollmentIds, EnrollmentAction action) {
+        Event event = this.findById(eventId);
+        Set<Long> ids = new HashSet<>(enrollmentIds);
+        List<Enrollment> enrollments = this.enrollmentRepository.findByEventAndIdIn(event, ids);
+        if(ids.isEmpty() || enrollments.size() != ids.size()) {
+            throw new IllegalArgumentException("모임에 등록되어 있지 않습니다.");
+        }
+
+        switch (action) {
+            case ACCEPT:
+                this.checkedEnrollments(enrollments, event::canAccept, "승인 할 수 없는 등록정보 입니다.");
+                this.changeAccepted(event, ids, true, " 모임에 참가 승인되었습니다.");
+                break;
+            case REJECT:
+                this.checkedEnrollments(enrollments, event::canReject, "취소 할 수 없는 등록정보 입니다.");
+                this.changeAccepted(event, ids, false, " 모임에 참가 거부되었습니다.");
+                break;
+            case CHECK_IN:
+                this.checkedEnrollments(enrollments, Enrollment::canCheckIn, "출석 체크 할 수 없는 등록정보 입니다.");
+                this.enrollmentRepository.updateAttended(ids, true);
+                break;
+            case CANCEL_CHECK_IN:
+                this.checkedEnrollments(enrollments, Enrollment::canCancelCheckIn, "출석 취소 할 수 없는 등록정보 입니다.");
+                this.enrollmentRepository.updateAttended(ids, false);
+                break;
+        }
+    }
+
+    /**
+     * 승인 상태가 아직 바뀌지 않은 등록만 잠그고 다시 조회해 변경합니다.
+     * 동시에 같은 등록을 변경한 요청이 있어도 실제로 바뀐 행 수 만큼만 승인 인원을 증감하고, 바뀐 등록에만 알립니다.
+     * @param event
+     * @param ids
+     * @param accepted
+     * @param message
+     */
+    private void changeAccepted(Event event, Collection<Long> ids, boolean accepted, String message) {
+        List<Long> changingIds = this.enrollmentRepository.findForUpdateByIdInAndAccepted(ids, !accepted).stream()
+                .map(Enrollment::getId).collect(Collectors.toList());
+        int changed = changingIds.isEmpty() ? 0 : this.enrollmentRepository.updateAccepted(changingIds, accepted);
+        if(changed == 0) {
+            return;
+        }
+
+        if(accepted) {
+            this.eventRepository.increaseAcceptedCount(event.getId(), changed);
+        } else {
+            this.eventRepository.decreaseAcceptedCount(event.getId(), changed);
+        }
+        this.outboxService.append(new EnrollmentEvent(changingIds, event.getTitle() + message));
+    }
+
+    private void checkedEnrollments(List<Enrollment> enrollments, Predicate<Enrollment> condition, String message) {
+        if(!enrollments.stream().allMatch(condition)) {
+            throw new IllegalArgumentException(message);
+        }
     }
 
     /**
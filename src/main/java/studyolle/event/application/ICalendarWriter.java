@@ -0,0 +1,67 @@
+package studyolle.event.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import studyolle.config.AppProperties;
+import studyolle.event.dto.CalendarEvent;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 캘린더 모임 목록을 iCalendar(RFC 5545) 형식으로 만듭니다.
+ * 시간은 서버 시간대 기준으로 저장되어 있으므로 UTC로 변환해서 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ICalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final AppProperties appProperties;
+
+    public String write(List<CalendarEvent> events) {
+        String domain = URI.create(this.appProperties.getHost()).getHost();
+        String now = this.toUtc(LocalDateTime.now());
+
+        StringBuilder ics = new StringBuilder();
+        ics.append("BEGIN:VCALENDAR").append(CRLF)
+                .append("VERSION:2.0").append(CRLF)
+                .append("PRODID:-//studyolle//calendar//KO").append(CRLF)
+                .append("CALSCALE:GREGORIAN").append(CRLF);
+        for(CalendarEvent event : events) {
+            ics.append("BEGIN:VEVENT").append(CRLF)
+                    .append("UID:event-").append(event.getId()).append('@').append(domain).append(CRLF)
+                    .append("DTSTAMP:").append(now).append(CRLF)
+                    .append("DTSTART:").append(this.toUtc(event.getStartDateTime())).append(CRLF)
+                    .append("DTEND:").append(this.toUtc(event.getEndDateTime())).append(CRLF)
+                    .append("SUMMARY:").append(this.escape(event.getTitle())).append(CRLF)
+                    .append("DESCRIPTION:").append(this.escape(event.getStudyTitle())).append(CRLF)
+                    .append("URL:").append(this.appProperties.getHost()).append("/study/")
+                    .append(URLEncoder.encode(event.getStudyPath(), StandardCharsets.UTF_8))
+                    .append("/events/").append(event.getId()).append(CRLF)
+                    .append("END:VEVENT").append(CRLF);
+        }
+        ics.append("END:VCALENDAR").append(CRLF);
+        return ics.toString();
+    }
+
+    private String toUtc(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    private String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+}
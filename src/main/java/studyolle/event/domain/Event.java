@@ -1,6 +1,7 @@
 package studyolle.event.domain;
 
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.security.UserAccount;
 import studyolle.enrollment.domain.Enrollment;
@@ -9,18 +10,24 @@ import studyolle.study.domain.Study;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_study_start", columnList = "study_id, startDateTime"),
+        @Index(name = "idx_events_enrollment_deadline", columnList = "enrollmentClosed, endEnrollmentDateTime"),
+        @Index(name = "idx_events_reminder", columnList = "reminderSent, startDateTime")})
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
 @NamedEntityGraph(name = "Event.withEnrollments",attributeNodes = @NamedAttributeNode("enrollments"))
 public class Event {
 
+    private static final Comparator<Enrollment> WAITING_ORDER = Comparator
+            .comparing(Enrollment::getEnrolledAt)
+            .thenComparing(Enrollment::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -51,6 +58,29 @@ public class Event {
     @Column
     private Integer limitOfEnrollments;
 
+    /**
+     * 승인 된 참가 신청 수
+     * 동시에 들어오는 참가 신청이 모집인원을 넘지 않도록 EventRepository의 조건부 update 쿼리로만 변경합니다.
+     * (엔티티 수정 시 덮어쓰지 않도록 updatable = false)
+     * 컬럼이 추가되기 전의 모임은 EventAcceptedCountMigration이 채웁니다.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int acceptedCount;
+
+    /**
+     * 참가 신청 마감 여부, 리마인더 전송 여부
+     * EventScheduler가 마감 시간/시작 시간이 된 모임을 EventRepository의 update 쿼리로만 변경합니다.
+     * 컬럼이 추가되기 전의 모임은 EventScheduleFlagMigration이 채웁니다.
+     */
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("false")
+    private boolean enrollmentClosed;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("false")
+    private boolean reminderSent;
+
     @OneToMany(mappedBy = "event")
     @OrderBy("enrolledAt")
     private final List<Enrollment> enrollments = new ArrayList<>();
@@ -58,6 +88,20 @@ public class Event {
     @Enumerated(EnumType.STRING)
     private EventType eventType;
 
+    /**
+     * 승인을 기다리는 참가 신청 (신청 순서)
+     * 처음 사용할 때 enrollments로 만들고, 승인/거부/취소 시 함께 갱신합니다.
+     */
+    @Transient
+    private NavigableSet<Enrollment> waitingEnrollments;
+
+    /**
+     * 계정 ID로 참가 신청을 찾는 맵
+     * 화면에서 계정별 참가 상태를 여러 번 확인하므로 처음 사용할 때 한 번만 만들고, 참가 신청 추가/삭제 시 함께 갱신합니다.
+     */
+    @Transient
+    private Map<Long, Enrollment> enrollmentsByAccountId;
+
     /**
      * 처음 모임이 만들어 진 후 필요한 값을 채워줍니다.
      * @param study
@@ -92,10 +136,11 @@ public class Event {
     /**
      * 참가 신청이 열려있는지 여부 반환.
      * 참가 신청 마감 기한이 현재 시간보다 후이면 열려있는 상태.
+     * (EventScheduler가 마감 처리하기 전이라도 마감 기한이 지났으면 닫힌 상태)
      * @return
      */
     private boolean isNotClosed() {
-        return this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
+        return !this.enrollmentClosed && this.endEnrollmentDateTime.isAfter(LocalDateTime.now());
     }
 
     /**
@@ -104,14 +149,8 @@ public class Event {
      * @return
      */
     public boolean isAttended(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account) && e.isAttended()) {
-                return true;
-            }
-        }
-
-        return false;
+        Enrollment enrollment = this.findEnrollmentByAccountId(userAccount.getAccountId());
+        return enrollment != null && enrollment.isAttended();
     }
 
     /**
@@ -121,13 +160,23 @@ public class Event {
      * @return
      */
     private boolean isAlreadyEnrolled(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
-        for (Enrollment e : this.enrollments) {
-            if (e.getAccount().equals(account)) {
-                return true;
+        return this.findEnrollmentByAccountId(userAccount.getAccountId()) != null;
+    }
+
+    /**
+     * 계정의 참가 신청을 반환합니다. (없으면 null)
+     * @param accountId
+     * @return
+     */
+    private Enrollment findEnrollmentByAccountId(Long accountId) {
+        if(this.enrollmentsByAccountId == null) {
+            Map<Long, Enrollment> enrollmentsByAccountId = new HashMap<>(this.enrollments.size() * 2);
+            for (Enrollment e : this.enrollments) {
+                enrollmentsByAccountId.put(e.getAccount().getId(), e);
             }
+            this.enrollmentsByAccountId = enrollmentsByAccountId;
         }
-        return false;
+        return this.enrollmentsByAccountId.get(accountId);
     }
 
     /**
@@ -135,7 +184,30 @@ public class Event {
      * @return
      */
     public int numberOfRemainSpots() {
-        return this.limitOfEnrollments - (int) this.enrollments.stream().filter(Enrollment::isAccepted).count();
+        return this.limitOfEnrollments - this.acceptedCount;
+    }
+
+    /**
+     * 계정의 참가 신청이 대기 중인 경우 몇 번째 대기인지 반환합니다. (대기 중이 아니면 0)
+     * @param userAccount
+     * @return
+     */
+    public int getWaitingPosition(UserAccount userAccount) {
+        Enrollment enrollment = this.findEnrollmentByAccountId(userAccount.getAccountId());
+        if(enrollment == null || enrollment.isAccepted()) {
+            return 0;
+        }
+        if(this.waitingEnrollments != null) {
+            return this.waitingEnrollments.headSet(enrollment, false).size() + 1;
+        }
+        // 대기 목록을 정렬해서 만들지 않고 앞선 대기자 수만 셉니다.
+        int position = 1;
+        for (Enrollment e : this.enrollments) {
+            if(!e.isAccepted() && WAITING_ORDER.compare(e, enrollment) < 0) {
+                position++;
+            }
+        }
+        return position;
     }
 
     /**
@@ -158,7 +230,7 @@ public class Event {
      */
     public boolean canAccept(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
+                && this.equals(enrollment.getEvent())
                 && !enrollment.isAttended()
                 && !enrollment.isAccepted();
     }
@@ -170,7 +242,7 @@ public class Event {
      */
     public boolean canReject(Enrollment enrollment) {
         return this.eventType == EventType.CONFIRMATIVE
-                && this.enrollments.contains(enrollment)
+                && this.equals(enrollment.getEvent())
                 && !enrollment.isAttended()
                 && enrollment.isAccepted();
     }
@@ -178,13 +250,44 @@ public class Event {
     public void addEnrollment(Enrollment enrollment) {
         this.enrollments.add(enrollment);
         enrollment.setEvent(this);
+        if(this.enrollmentsByAccountId != null) {
+            this.enrollmentsByAccountId.put(enrollment.getAccount().getId(), enrollment);
+        }
+        if(enrollment.isAccepted()) {
+            this.acceptedCount++;
+        } else if(this.waitingEnrollments != null) {
+            this.waitingEnrollments.add(enrollment);
+        }
     }
 
     public void deleteEnrollment(Enrollment enrollment) {
+        if(enrollment.isAccepted()) {
+            this.acceptedCount--;
+        } else {
+            this.getWaitingEnrollments().remove(enrollment);
+        }
         this.enrollments.remove(enrollment);
+        if(this.enrollmentsByAccountId != null) {
+            this.enrollmentsByAccountId.remove(enrollment.getAccount().getId());
+        }
         enrollment.setEvent(null);
     }
 
+    /**
+     * 조회한 대기자들을 승인하고 승인 된 참가 신청 수와 (만들어져 있는 경우) 대기 목록을 갱신합니다.
+     * 참가 신청 목록을 새로 읽지 않습니다.
+     * @param enrollments
+     */
+    public void acceptWaitingEnrollments(List<Enrollment> enrollments) {
+        for(Enrollment enrollment : enrollments) {
+            if(this.waitingEnrollments != null) {
+                this.waitingEnrollments.remove(enrollment);
+            }
+            enrollment.accept();
+            this.acceptedCount++;
+        }
+    }
+
     /**
      * 즉시 수락해야하는 참석요청인 경우 true(수락)을 반환합니다.
      * 모임타입이 선착순(FCFS)이며, 남은 자리가 1자리 이상 있어야 합니다.
@@ -196,19 +299,26 @@ public class Event {
     }
 
     /**
-     * 선착순 모임의 경우 등록취소/모집인원 증가 등으로 인해 발생한 추가 모집 인원을
-     * 대기자가 있는 경우 자동으로 허가를 해줍니다.
+     * 승인을 기다리는 참가 신청을 신청한 순서대로 반환합니다.
+     * @return
      */
-    public void acceptWaitingEnrollment() {
-        if(this.isImmediatelyAcceptEnrollment()) {
-            AtomicInteger count = new AtomicInteger(this.numberOfRemainSpots());
-            List<Enrollment> enrollments = this.enrollments.stream().sorted((o1, o2) -> o1.getEnrolledAt().compareTo(o2.getEnrolledAt()))
+    public NavigableSet<Enrollment> getWaitingEnrollments() {
+        if(this.waitingEnrollments == null) {
+            this.waitingEnrollments = new TreeSet<>(WAITING_ORDER);
+            this.enrollments.stream()
                     .filter(enrollment -> !enrollment.isAccepted())
-                    .collect(Collectors.toList());
-            for(Enrollment enrollment : enrollments) {
-                enrollment.accept();
-            }
+                    .forEach(this.waitingEnrollments::add);
         }
+        return this.waitingEnrollments;
+    }
+
+    /**
+     * 다음 차례로 승인 할 대기중인 참가 신청을 반환합니다.
+     * @return
+     */
+    public Optional<Enrollment> nextWaitingEnrollment() {
+        NavigableSet<Enrollment> waitingEnrollments = this.getWaitingEnrollments();
+        return waitingEnrollments.isEmpty() ? Optional.empty() : Optional.of(waitingEnrollments.first());
     }
 
     /**
@@ -228,15 +338,4 @@ public class Event {
                     });
         }
     }
-
-    /**
-     * 등록 ID로 모임에 포함 된 등록을 찾아 반환합니다.
-     * @param enrollmentId
-     * @return
-     */
-    public Enrollment findEnrollment(Long enrollmentId) {
-        return this.enrollments.stream()
-                .filter(enrollment -> enrollment.getId().equals(enrollmentId))
-                .findFirst().orElseThrow(() -> new IllegalArgumentException("모임에 등록되어 있지 않습니다."));
-    }
 }
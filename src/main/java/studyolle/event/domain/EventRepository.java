@@ -1,20 +1,150 @@
 package studyolle.event.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import studyolle.account.domain.Account;
+import studyolle.event.dto.CalendarEvent;
+import studyolle.event.dto.EventDueTime;
+import studyolle.event.dto.EventSummary;
 import studyolle.study.domain.Study;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public interface EventRepository extends JpaRepository<Event, Long> {
 
+    /**
+     * 스터디의 모임 요약을 시작 시간 순으로 조회합니다.
+     * 참가 신청 엔티티는 읽지 않고, 대기 수는 서브쿼리로 세고 계정의 참가 신청은 left join으로 하나만 가져옵니다.
+     * @param study
+     * @param account
+     * @return
+     */
     @Transactional(readOnly = true)
-    @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
-    List<Event> findWithEnrollmentsByStudyOrderByStartDateTime(Study study);
+    @Query("select new studyolle.event.dto.EventSummary(e.id, e.title, e.startDateTime, e.endDateTime" +
+            ", e.endEnrollmentDateTime, e.limitOfEnrollments, e.eventType, e.acceptedCount" +
+            ", (select count(w) from Enrollment w where w.event = e and w.accepted = false)" +
+            ", my.accepted, my.attended) " +
+            "from Event e left join Enrollment my on my.event = e and my.account = :account " +
+            "where e.study = :study order by e.startDateTime")
+    List<EventSummary> findSummariesByStudy(@Param("study") Study study, @Param("account") Account account);
 
     @EntityGraph(value = "Event.withEnrollments", type = EntityGraph.EntityGraphType.LOAD)
     Optional<Event> findWithEnrollmentsById(Long id);
+
+    /**
+     * 모임의 남은 자리 수를 DB에서 바로 조회합니다.
+     * @param id
+     * @return
+     */
+    @Transactional(readOnly = true)
+    @Query("select e.limitOfEnrollments - e.acceptedCount from Event e where e.id = :id")
+    int findRemainSpotsById(@Param("id") Long id);
+
+    /**
+     * 선착순 모임에 count 만큼의 남은 자리가 있는 경우에만 승인 된 참가 신청 수를 count 만큼 증가시킵니다.
+     * 조건 검사와 증가가 한 번의 update로 처리되므로 동시에 요청이 들어와도 모집인원을 넘지 않습니다.
+     * @param id
+     * @param eventType
+     * @param count
+     * @return 자리를 확보한 경우 1, 남은 자리가 부족하면 0
+     */
+    @Modifying
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + :count " +
+            "where e.id = :id and e.eventType = :eventType and e.acceptedCount + :count <= e.limitOfEnrollments")
+    int increaseAcceptedCountIfAvailable(@Param("id") Long id, @Param("eventType") EventType eventType
+            , @Param("count") int count);
+
+    @Modifying
+    @Query("update Event e set e.acceptedCount = e.acceptedCount + :count where e.id = :id")
+    int increaseAcceptedCount(@Param("id") Long id, @Param("count") int count);
+
+    @Modifying
+    @Query("update Event e set e.acceptedCount = e.acceptedCount - :count where e.id = :id and e.acceptedCount >= :count")
+    int decreaseAcceptedCount(@Param("id") Long id, @Param("count") int count);
+
+    /**
+     * 스터디들의 모임 중 시작 시간이 [from, to) 구간인 모임을 (시작 시간, ID) 순으로 조회합니다.
+     * 앞 페이지의 마지막 모임 (afterStartDateTime, afterId) 이후부터 읽는 keyset 페이징이며,
+     * (study_id, start_date_time) 인덱스를 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new studyolle.event.dto.CalendarEvent(e.id, e.title, e.startDateTime, e.endDateTime, s.path, s.title) " +
+            "from Event e join e.study s " +
+            "where s.id in :studyIds and e.startDateTime >= :from and e.startDateTime < :to " +
+            "and (e.startDateTime > :afterStartDateTime " +
+            "or (e.startDateTime = :afterStartDateTime and e.id > :afterId)) " +
+            "order by e.startDateTime, e.id")
+    List<CalendarEvent> findCalendarEvents(@Param("studyIds") Collection<Long> studyIds
+            , @Param("from") LocalDateTime from, @Param("to") LocalDateTime to
+            , @Param("afterStartDateTime") LocalDateTime afterStartDateTime, @Param("afterId") Long afterId
+            , Pageable pageable);
+
+    /**
+     * 아직 마감 처리하지 않은 모임 중 참가 신청 마감 시간이 until 이전인 모임을 마감 시간 순으로 조회합니다.
+     * (enrollment_closed, end_enrollment_date_time) 인덱스를 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new studyolle.event.dto.EventDueTime(e.id, e.endEnrollmentDateTime) from Event e " +
+            "where e.enrollmentClosed = false and e.endEnrollmentDateTime < :until " +
+            "order by e.endEnrollmentDateTime, e.id")
+    List<EventDueTime> findEnrollmentDeadlines(@Param("until") LocalDateTime until, Pageable pageable);
+
+    /**
+     * 아직 리마인더를 보내지 않은 모임 중 시작 시간이 until 이전인 모임을 시작 시간 순으로 조회합니다.
+     * (reminder_sent, start_date_time) 인덱스를 사용합니다.
+     */
+    @Transactional(readOnly = true)
+    @Query("select new studyolle.event.dto.EventDueTime(e.id, e.startDateTime) from Event e " +
+            "where e.reminderSent = false and e.startDateTime < :until " +
+            "order by e.startDateTime, e.id")
+    List<EventDueTime> findReminderStartTimes(@Param("until") LocalDateTime until, Pageable pageable);
+
+    /**
+     * 참가 신청 마감 시간이 지난 모임만 마감 처리합니다.
+     * 모임이 수정되어 마감 시간이 바뀐 경우에도 현재 마감 시간을 기준으로 판단합니다.
+     * @return 마감 처리한 모임 수
+     */
+    @Modifying
+    @Query("update Event e set e.enrollmentClosed = true " +
+            "where e.id in :ids and e.enrollmentClosed = false and e.endEnrollmentDateTime <= :now")
+    int closeEnrollments(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional(readOnly = true)
+    @Query("select new studyolle.event.dto.EventDueTime(e.id, e.startDateTime) from Event e " +
+            "where e.id in :ids and e.reminderSent = false and e.startDateTime <= :until")
+    List<EventDueTime> findReminderTargets(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    /**
+     * 아직 리마인더를 보내지 않은 모임만 리마인더 전송 처리합니다.
+     * 여러 스케줄러가 같은 모임을 동시에 처리해도 한 트랜잭션만 1을 반환합니다.
+     * @return 전송 처리한 모임 수 (0 또는 1)
+     */
+    @Modifying
+    @Query("update Event e set e.reminderSent = true where e.id = :id and e.reminderSent = false")
+    int markReminderSent(@Param("id") Long id);
+
+    /**
+     * 모임 수정으로 마감 시간이 다시 미래가 된 경우 참가 신청을 다시 엽니다.
+     */
+    @Modifying
+    @Query("update Event e set e.enrollmentClosed = false " +
+            "where e.id = :id and e.enrollmentClosed = true and e.endEnrollmentDateTime > :now")
+    int reopenEnrollment(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 모임 수정으로 시작 시간이 리마인더 시점보다 뒤로 미뤄진 경우 리마인더를 다시 보내도록 합니다.
+     */
+    @Modifying
+    @Query("update Event e set e.reminderSent = false " +
+            "where e.id = :id and e.reminderSent = true and e.startDateTime > :remindUntil")
+    int resetReminder(@Param("id") Long id, @Param("remindUntil") LocalDateTime remindUntil);
 }
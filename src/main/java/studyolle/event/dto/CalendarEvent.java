@@ -0,0 +1,26 @@
+package studyolle.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캘린더에 표시할 모임 정보
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarEvent {
+
+    private Long id;
+
+    private String title;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private String studyPath;
+
+    private String studyTitle;
+}
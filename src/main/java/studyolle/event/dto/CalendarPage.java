@@ -0,0 +1,19 @@
+package studyolle.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 캘린더 모임 목록의 한 페이지
+ * next는 다음 페이지를 조회할 때 cursor로 넘기는 값이며, 마지막 페이지면 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarPage {
+
+    private List<CalendarEvent> events;
+
+    private String next;
+}
@@ -0,0 +1,18 @@
+package studyolle.event.dto;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class EnrollmentsForm {
+
+    @NotEmpty
+    private List<Long> enrollmentIds = new ArrayList<>();
+
+    @NotNull
+    private EnrollmentAction action;
+}
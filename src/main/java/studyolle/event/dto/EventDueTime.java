@@ -0,0 +1,18 @@
+package studyolle.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * EventScheduler가 처리 할 모임 ID와 기준 시간 (참가 신청 마감 시간 또는 모임 시작 시간)
+ */
+@Getter
+@AllArgsConstructor
+public class EventDueTime {
+
+    private Long eventId;
+
+    private LocalDateTime dateTime;
+}
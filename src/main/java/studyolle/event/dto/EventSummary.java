@@ -0,0 +1,75 @@
+package studyolle.event.dto;
+
+import lombok.Getter;
+import studyolle.event.domain.EventType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 모임 목록 화면에 필요한 값만 담은 모임 요약
+ * 참가 신청 엔티티를 읽지 않고 쿼리에서 승인/대기 수와 현재 사용자의 참가 상태를 함께 조회합니다.
+ */
+@Getter
+public class EventSummary {
+
+    private final Long id;
+
+    private final String title;
+
+    private final LocalDateTime startDateTime;
+
+    private final LocalDateTime endDateTime;
+
+    private final LocalDateTime endEnrollmentDateTime;
+
+    private final Integer limitOfEnrollments;
+
+    private final EventType eventType;
+
+    private final int acceptedCount;
+
+    private final long waitingCount;
+
+    private final EnrollmentStatus enrollmentStatus;
+
+    public EventSummary(Long id, String title, LocalDateTime startDateTime, LocalDateTime endDateTime
+            , LocalDateTime endEnrollmentDateTime, Integer limitOfEnrollments, EventType eventType
+            , int acceptedCount, long waitingCount, Boolean accepted, Boolean attended) {
+        this.id = id;
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.endEnrollmentDateTime = endEnrollmentDateTime;
+        this.limitOfEnrollments = limitOfEnrollments;
+        this.eventType = eventType;
+        this.acceptedCount = acceptedCount;
+        this.waitingCount = waitingCount;
+        this.enrollmentStatus = EnrollmentStatus.of(accepted, attended);
+    }
+
+    public int numberOfRemainSpots() {
+        return this.limitOfEnrollments - this.acceptedCount;
+    }
+
+    public boolean isEnded() {
+        return this.endDateTime.isBefore(LocalDateTime.now());
+    }
+
+    /**
+     * 현재 사용자의 모임 참가 상태
+     */
+    public enum EnrollmentStatus {
+
+        NONE, WAITING, ACCEPTED, ATTENDED;
+
+        static EnrollmentStatus of(Boolean accepted, Boolean attended) {
+            if(accepted == null) {
+                return NONE;
+            }
+            if(Boolean.TRUE.equals(attended)) {
+                return ATTENDED;
+            }
+            return accepted ? ACCEPTED : WAITING;
+        }
+    }
+}
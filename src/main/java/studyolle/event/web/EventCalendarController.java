@@ -0,0 +1,86 @@
+package studyolle.event.web;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.security.CurrentUserAccount;
+import studyolle.event.application.EventCalendarService;
+import studyolle.event.application.ICalendarWriter;
+import studyolle.event.dto.CalendarEvent;
+import studyolle.event.dto.CalendarPage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 내가 관리하거나 참여중인 스터디의 모임 캘린더
+ * 화면은 월 단위로, JSON/iCal 피드는 요청한 기간만큼 조회합니다.
+ */
+@Controller
+@RequiredArgsConstructor
+public class EventCalendarController {
+
+    public static final String URL_CALENDAR = "/calendar";
+    public static final String URL_CALENDAR_EVENTS = "/calendar/events";
+    public static final String URL_CALENDAR_ICS = "/calendar/events.ics";
+
+    static final int PAGE_SIZE = 50;
+    static final int ICS_MONTHS = 3;
+    /** iCal 피드 하나에 담는 최대 모임 수, 응답 크기와 조회 시간을 제한합니다. */
+    static final int ICS_MAX_EVENTS = 5000;
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final EventCalendarService eventCalendarService;
+    private final ICalendarWriter iCalendarWriter;
+
+    @GetMapping(URL_CALENDAR)
+    public String calendar(@CurrentUserAccount Account account
+            , @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+            , @RequestParam(required = false) String cursor, Model model) {
+        YearMonth currentMonth = month == null ? YearMonth.now() : month;
+        CalendarPage calendarPage = this.eventCalendarService.findEvents(account
+                , currentMonth.atDay(1).atStartOfDay(), currentMonth.plusMonths(1).atDay(1).atStartOfDay()
+                , cursor, PAGE_SIZE);
+
+        model.addAttribute("account", account);
+        model.addAttribute("month", currentMonth);
+        model.addAttribute("previousMonth", currentMonth.minusMonths(1));
+        model.addAttribute("nextMonth", currentMonth.plusMonths(1));
+        model.addAttribute("calendarPage", calendarPage);
+        return "event/calendar";
+    }
+
+    @GetMapping(URL_CALENDAR_EVENTS)
+    @ResponseBody
+    public CalendarPage calendarEvents(@CurrentUserAccount Account account
+            , @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from
+            , @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+            , @RequestParam(required = false) String cursor
+            , @RequestParam(defaultValue = "" + PAGE_SIZE) int size) {
+        return this.eventCalendarService.findEvents(account, from, to, cursor, size);
+    }
+
+    /**
+     * 오늘부터 ICS_MONTHS 개월 동안의 모임을 iCal 형식으로 반환합니다.
+     * 모든 페이지를 이어서 읽되, ICS_MAX_EVENTS 개 까지만 시작 시간 순으로 포함합니다.
+     */
+    @GetMapping(URL_CALENDAR_ICS)
+    public ResponseEntity<String> calendarIcs(@CurrentUserAccount Account account) {
+        LocalDateTime from = LocalDate.now().atStartOfDay();
+        List<CalendarEvent> events = this.eventCalendarService.findAllEvents(account, from, from.plusMonths(ICS_MONTHS)
+                , EventCalendarService.MAX_PAGE_SIZE, ICS_MAX_EVENTS);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .body(this.iCalendarWriter.write(events));
+    }
+}
@@ -6,12 +6,15 @@ import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.security.CurrentUserAccount;
 import studyolle.enrollment.domain.Enrollment;
 import studyolle.event.application.EventService;
 import studyolle.event.domain.Event;
+import studyolle.event.dto.EnrollmentsForm;
 import studyolle.event.dto.EventForm;
+import studyolle.event.dto.EventSummary;
 import studyolle.event.dto.EventFormValidator;
 import studyolle.study.application.StudyService;
 import studyolle.study.domain.Study;
@@ -19,7 +22,6 @@ import studyolle.study.domain.Study;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -108,7 +110,7 @@ public class EventController {
         model.addAttribute("account", account);
         Study study = this.studyService.findByPath(path);
         model.addAttribute("study", study);
-        this.addAttributeNewEventsAndOldEventsByStudy(model, study);
+        this.addAttributeNewEventsAndOldEventsByStudy(model, study, account);
         return "study/events";
     }
 
@@ -116,14 +118,15 @@ public class EventController {
      * Model attribute에 신규모임들과 지난모임들 추가
      * @param model
      * @param study
+     * @param account
      */
-    private void addAttributeNewEventsAndOldEventsByStudy(Model model, Study study) {
-        List<Event> newEvents = new ArrayList<>();
-        List<Event> oldEvents = new ArrayList<>();
+    private void addAttributeNewEventsAndOldEventsByStudy(Model model, Study study, Account account) {
+        List<EventSummary> newEvents = new ArrayList<>();
+        List<EventSummary> oldEvents = new ArrayList<>();
 
-        this.eventService.findWithEnrollmentsByStudy(study).stream()
+        this.eventService.findEventSummaries(study, account).stream()
             .forEach(event -> {
-                if(event.getEndDateTime().isBefore(LocalDateTime.now())) {
+                if(event.isEnded()) {
                     oldEvents.add(event);
                 } else {
                     newEvents.add(event);
@@ -198,6 +201,23 @@ public class EventController {
     }
 
 
+    /**
+     * 관리자가 선택한 여러 참가 신청에 승인/거부/출석체크/출석체크 취소를 한 번에 적용합니다.
+     */
+    @PostMapping("/study/{path}/events/{eventId}/enrollments")
+    public String updateEnrollments(@CurrentUserAccount Account account, @PathVariable String path
+            , @PathVariable Long eventId, @Valid EnrollmentsForm enrollmentsForm, Errors errors
+            , RedirectAttributes attributes) {
+        this.studyService.checkedManager(path, account);
+        if(errors.hasErrors()) {
+            attributes.addFlashAttribute("message", "변경 할 참가 신청과 처리 방법을 선택하세요.");
+        } else {
+            this.eventService.updateEnrollments(eventId, enrollmentsForm.getEnrollmentIds(), enrollmentsForm.getAction());
+        }
+
+        return "redirect:/study/" + URLEncoder.encode(path, StandardCharsets.UTF_8) + "/events/" + eventId;
+    }
+
     @GetMapping("/study/{path}/events/{eventId}/enrollments/{enrollmentId}/accept")
     public String acceptEnrollment(@CurrentUserAccount Account account, @PathVariable String path
             , @PathVariable Long eventId, @PathVariable Long enrollmentId) {
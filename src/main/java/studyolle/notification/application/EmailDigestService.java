@@ -0,0 +1,128 @@
+package studyolle.notification.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import studyolle.common.email.EmailMessage;
+import studyolle.common.email.EmailService;
+import studyolle.config.AppProperties;
+import studyolle.notification.domain.EmailDigestItem;
+import studyolle.notification.domain.EmailDigestItemRepository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 이메일 알림을 계정별로 모아 app.email-digest-window 주기마다 한 통의 메일로 보냅니다.
+ * 알림이 한 건이면 해당 알림의 링크를, 여러 건이면 알림 목록 링크를 mail/simple-link 템플릿으로 보냅니다.
+ */
+@Service
+@Slf4j
+public class EmailDigestService {
+
+    static final int MAX_TITLES_IN_MESSAGE = 5;
+
+    private final EmailDigestItemRepository emailDigestItemRepository;
+    private final EmailService emailService;
+    private final TemplateEngine templateEngine;
+    private final AppProperties appProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmailDigestService(EmailDigestItemRepository emailDigestItemRepository, EmailService emailService
+            , TemplateEngine templateEngine, AppProperties appProperties, PlatformTransactionManager transactionManager) {
+        this.emailDigestItemRepository = emailDigestItemRepository;
+        this.emailService = emailService;
+        this.templateEngine = templateEngine;
+        this.appProperties = appProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 이메일 알림을 다이제스트에 추가합니다. 호출한 트랜잭션과 함께 저장됩니다.
+     * @param items
+     */
+    public void add(List<EmailDigestItem> items) {
+        this.emailDigestItemRepository.bulkInsert(items);
+    }
+
+    /**
+     * 지금까지 쌓인 이메일 알림을 계정별로 묶어 전송하고 삭제합니다.
+     * 계정 app.email-digest-batch-size 개 단위로 별도의 트랜잭션에서 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.email-digest-window:600000}")
+    public void flush() {
+        LocalDateTime before = LocalDateTime.now();
+        Integer sent;
+        do {
+            sent = this.transactionTemplate.execute(status -> this.flushChunk(before));
+        } while (sent != null && sent == this.appProperties.getEmailDigestBatchSize());
+    }
+
+    private int flushChunk(LocalDateTime before) {
+        List<Long> accountIds = this.emailDigestItemRepository.findAccountIdsCreatedBefore(before
+                , PageRequest.of(0, this.appProperties.getEmailDigestBatchSize()));
+        if(accountIds.isEmpty()) {
+            return 0;
+        }
+
+        List<EmailDigestItem> items = this.emailDigestItemRepository
+                .findByAccountIdInAndCreatedDateTimeLessThanEqualOrderByIdAsc(accountIds, before);
+        Map<Long, List<EmailDigestItem>> itemsByAccount = items.stream()
+                .collect(Collectors.groupingBy(EmailDigestItem::getAccountId, LinkedHashMap::new, Collectors.toList()));
+        itemsByAccount.values().forEach(this::sendDigest);
+
+        this.emailDigestItemRepository.deleteByIdIn(items.stream()
+                .map(EmailDigestItem::getId).collect(Collectors.toList()));
+        log.info("sent email digest to {} accounts ({} notifications)", itemsByAccount.size(), items.size());
+        return accountIds.size();
+    }
+
+    /**
+     * 한 계정의 이메일 알림을 한 통의 메일로 만들어 전송 큐에 넣습니다.
+     * @param items 같은 계정의 알림 (오래된 순)
+     */
+    private void sendDigest(List<EmailDigestItem> items) {
+        EmailDigestItem first = items.get(0);
+        Context context = new Context();
+        context.setVariable("nickname", first.getNickname());
+        context.setVariable("host", this.appProperties.getHost());
+
+        String subject;
+        if(items.size() == 1) {
+            subject = "스터디올래, '" + first.getTitle() + "' 알림";
+            context.setVariable("link", first.getLink());
+            context.setVariable("linkName", first.getTitle());
+            context.setVariable("message", first.getMessage());
+        } else {
+            subject = "스터디올래, 새로운 알림 " + items.size() + "건";
+            context.setVariable("link", "/notifications");
+            context.setVariable("linkName", "알림 확인하기");
+            context.setVariable("message", this.summarize(items));
+        }
+
+        this.emailService.sendEmail(EmailMessage.builder()
+                .to(first.getEmail())
+                .subject(subject)
+                .message(this.templateEngine.process("mail/simple-link", context))
+                .build());
+    }
+
+    private String summarize(List<EmailDigestItem> items) {
+        String titles = items.stream()
+                .map(EmailDigestItem::getTitle)
+                .distinct()
+                .limit(MAX_TITLES_IN_MESSAGE)
+                .collect(Collectors.joining(", "));
+        return "새로운 알림이 " + items.size() + "건 있습니다. (" + titles + ")";
+    }
+}
@@ -0,0 +1,121 @@
+package studyolle.notification.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import studyolle.config.AppProperties;
+import studyolle.notification.domain.NotificationRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계정별 읽지 않은 알림 수 캐시
+ * 최대 app.notification-count-cache-size 개의 계정을 LRU 방식으로 유지하며,
+ * 알림 생성/읽음/삭제 시 커밋 이후 값을 증감하고 주기적으로 DB의 값과 맞춥니다.
+ */
+@Component
+@Slf4j
+public class NotificationCountCache {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final NotificationRepository notificationRepository;
+    private final Map<Long, Long> counts;
+
+    public NotificationCountCache(NotificationRepository notificationRepository, AppProperties appProperties) {
+        this.notificationRepository = notificationRepository;
+        int maxSize = appProperties.getNotificationCountCacheSize();
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 계정의 읽지 않은 알림 수를 반환합니다.
+     * 캐시에 없는 경우에만 DB에서 조회합니다.
+     * @param accountId
+     * @return
+     */
+    public long getUnreadCount(Long accountId) {
+        synchronized (this.counts) {
+            Long count = this.counts.get(accountId);
+            if(count != null) {
+                return count;
+            }
+        }
+
+        long count = this.notificationRepository.countByAccountIdAndChecked(accountId, false);
+        synchronized (this.counts) {
+            return this.counts.computeIfAbsent(accountId, key -> count);
+        }
+    }
+
+    public void increment(Long accountId) {
+        this.add(accountId, 1);
+    }
+
+    public void decrement(Long accountId, long amount) {
+        this.add(accountId, -amount);
+    }
+
+    /**
+     * 캐시 된 계정의 알림 수를 증감합니다.
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에 반영합니다.
+     */
+    private void add(Long accountId, long delta) {
+        if(delta == 0) {
+            return;
+        }
+
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.apply(accountId, delta);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                apply(accountId, delta);
+            }
+        });
+    }
+
+    private void apply(Long accountId, long delta) {
+        synchronized (this.counts) {
+            this.counts.computeIfPresent(accountId, (key, count) -> Math.max(0, count + delta));
+        }
+    }
+
+    /**
+     * 캐시 된 계정들의 알림 수를 DB의 값으로 다시 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${app.notification-count-reconcile-delay:60000}")
+    public void reconcile() {
+        List<Long> accountIds;
+        synchronized (this.counts) {
+            accountIds = new ArrayList<>(this.counts.keySet());
+        }
+
+        for(int from = 0; from < accountIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = accountIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, accountIds.size()));
+            Map<Long, Long> unreadCounts = new HashMap<>();
+            this.notificationRepository.countUncheckedGroupByAccountId(chunk)
+                    .forEach(row -> unreadCounts.put((Long) row[0], (Long) row[1]));
+
+            synchronized (this.counts) {
+                chunk.forEach(accountId -> this.counts.computeIfPresent(accountId
+                        , (key, count) -> unreadCounts.getOrDefault(accountId, 0L)));
+            }
+        }
+        log.debug("notification count cache reconciled : {} accounts", accountIds.size());
+    }
+}
@@ -7,9 +7,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
 import org.springframework.web.servlet.view.RedirectView;
-import studyolle.account.domain.Account;
 import studyolle.account.domain.security.UserAccount;
-import studyolle.notification.domain.NotificationRepository;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -18,14 +16,14 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class NotificationInterceptor implements HandlerInterceptor {
 
-    private final NotificationRepository notificationRepository;
+    private final NotificationCountCache notificationCountCache;
 
     @Override
     public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if(this.canAddNotificationToModel(modelAndView, authentication)) {
-            Account account = ((UserAccount) authentication.getPrincipal()).getAccount();
-            long count = this.notificationRepository.countByAccountAndChecked(account, false);
+            Long accountId = ((UserAccount) authentication.getPrincipal()).getAccountId();
+            long count = this.notificationCountCache.getUnreadCount(accountId);
             modelAndView.addObject("hasNotification", count > 0);
         }
     }
@@ -7,7 +7,9 @@ import studyolle.account.domain.Account;
 import studyolle.notification.domain.Notification;
 import studyolle.notification.domain.NotificationRepository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -15,6 +17,7 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationCountCache notificationCountCache;
 
 
     public List<Notification> findByAccountAndCheckedOrderByCreatedDateTimeDesc(Account account, boolean checked) {
@@ -32,10 +35,19 @@ public class NotificationService {
         return this.notificationRepository.countByAccountAndChecked(account, checked);
     }
 
+    /**
+     * 알림을 읽음 처리하고, 읽지 않았던 알림 수만큼 계정의 알림 수 캐시를 줄입니다.
+     * @param notifications
+     */
     public void markAsRead(List<Notification> notifications) {
+        Map<Long, Long> readCounts = new HashMap<>();
         for(Notification notification : notifications) {
+            if(!notification.isChecked()) {
+                readCounts.merge(notification.getAccount().getId(), 1L, Long::sum);
+            }
             notification.checkAsRead();
         }
+        readCounts.forEach(this.notificationCountCache::decrement);
     }
 
     /**
@@ -44,6 +56,9 @@ public class NotificationService {
      * @param checked
      */
     public void deleteByAccountAndChecked(Account account, boolean checked) {
-        this.notificationRepository.deleteByAccountAndChecked(account, checked);
+        long deleted = this.notificationRepository.deleteByAccountAndChecked(account, checked);
+        if(!checked) {
+            this.notificationCountCache.decrement(account.getId(), deleted);
+        }
     }
 }
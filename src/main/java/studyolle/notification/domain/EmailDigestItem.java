@@ -0,0 +1,50 @@
+package studyolle.notification.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 이메일로 보낼 알림 한 건
+ * 바로 메일을 보내지 않고 계정별로 모아 두었다가 EmailDigestService가 일정 주기마다 한 통의 메일로 보냅니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_email_digest_item_account", columnList = "account_id"))
+@Getter @EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailDigestItem {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    private String email;
+
+    private String nickname;
+
+    private String title;
+
+    private String link;
+
+    private String message;
+
+    private LocalDateTime createdDateTime;
+
+    /**
+     * 알림의 제목, 링크, 메시지로 이메일 알림을 만듭니다.
+     */
+    public static EmailDigestItem of(Long accountId, String email, String nickname, Notification notification) {
+        EmailDigestItem item = new EmailDigestItem();
+        item.accountId = accountId;
+        item.email = email;
+        item.nickname = nickname;
+        item.title = notification.getTitle();
+        item.link = notification.getLink();
+        item.message = notification.getMessage();
+        item.createdDateTime = notification.getCreatedDateTime();
+        return item;
+    }
+}
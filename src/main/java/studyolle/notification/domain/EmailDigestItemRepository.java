@@ -0,0 +1,28 @@
+package studyolle.notification.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional
+public interface EmailDigestItemRepository extends JpaRepository<EmailDigestItem, Long>, EmailDigestItemRepositoryExtension {
+
+    @Transactional(readOnly = true)
+    @Query("select distinct i.accountId from EmailDigestItem i where i.createdDateTime <= :before order by i.accountId")
+    List<Long> findAccountIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    List<EmailDigestItem> findByAccountIdInAndCreatedDateTimeLessThanEqualOrderByIdAsc(Collection<Long> accountIds
+            , LocalDateTime before);
+
+    @Modifying
+    @Query("delete from EmailDigestItem i where i.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
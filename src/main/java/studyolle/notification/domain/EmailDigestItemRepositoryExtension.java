@@ -0,0 +1,8 @@
+package studyolle.notification.domain;
+
+import java.util.List;
+
+public interface EmailDigestItemRepositoryExtension {
+
+    void bulkInsert(List<EmailDigestItem> items);
+}
@@ -0,0 +1,44 @@
+package studyolle.notification.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import studyolle.config.AppProperties;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 여러 계정의 이메일 알림을 JDBC 배치로 저장합니다. (NotificationRepositoryExtensionImpl 참고)
+ */
+@Transactional
+public class EmailDigestItemRepositoryExtensionImpl implements EmailDigestItemRepositoryExtension {
+
+    private static final String INSERT_SQL = "insert into email_digest_item " +
+            "(account_id, email, nickname, title, link, message, created_date_time) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public EmailDigestItemRepositoryExtensionImpl(JdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = appProperties.getNotificationBatchSize();
+    }
+
+    @Override
+    public void bulkInsert(List<EmailDigestItem> items) {
+        if(items.isEmpty()) {
+            return;
+        }
+
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, items, this.batchSize, (ps, item) -> {
+            ps.setLong(1, item.getAccountId());
+            ps.setString(2, item.getEmail());
+            ps.setString(3, item.getNickname());
+            ps.setString(4, item.getTitle());
+            ps.setString(5, item.getLink());
+            ps.setString(6, item.getMessage());
+            ps.setTimestamp(7, Timestamp.valueOf(item.getCreatedDateTime()));
+        });
+    }
+}
@@ -44,6 +44,14 @@ public class Notification {
                 .build();
     }
 
+    /**
+     * 계정 엔티티를 조회하지 않고 계정 ID로 알림을 만듭니다.
+     * 계정은 ID만 가진 참조이므로 NotificationRepository.bulkInsert 로만 저장합니다.
+     */
+    public static Notification create(Study study, Long accountId, String message, NotificationType notificationType) {
+        return create(study, Account.builder().id(accountId).build(), message, notificationType);
+    }
+
     public static Notification create(Event event, Account account, String message, NotificationType notificationType) {
         return Notification.builder()
                 .title(event.getTitle())
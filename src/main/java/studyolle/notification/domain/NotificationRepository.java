@@ -1,18 +1,29 @@
 package studyolle.notification.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import studyolle.account.domain.Account;
 
+import java.util.Collection;
 import java.util.List;
 
 @Transactional
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryExtension {
 
     @Transactional(readOnly = true)
     long countByAccountAndChecked(Account account, boolean checked);
 
+    @Transactional(readOnly = true)
+    long countByAccountIdAndChecked(Long accountId, boolean checked);
+
+    @Transactional(readOnly = true)
+    @Query("select n.account.id, count(n) from Notification n " +
+            "where n.checked = false and n.account.id in :accountIds group by n.account.id")
+    List<Object[]> countUncheckedGroupByAccountId(@Param("accountIds") Collection<Long> accountIds);
+
     List<Notification> findByAccountAndCheckedOrderByCreatedDateTimeDesc(Account account, boolean checked);
 
-    void deleteByAccountAndChecked(Account account, boolean checked);
+    long deleteByAccountAndChecked(Account account, boolean checked);
 }
@@ -0,0 +1,8 @@
+package studyolle.notification.domain;
+
+import java.util.List;
+
+public interface NotificationRepositoryExtension {
+
+    void bulkInsert(List<Notification> notifications);
+}
@@ -0,0 +1,51 @@
+package studyolle.notification.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import studyolle.config.AppProperties;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * IDENTITY 전략의 엔티티는 Hibernate가 insert를 배치로 묶지 못하므로,
+ * 여러 계정에 보내는 알림은 JDBC 배치로 저장합니다.
+ * (MySQL은 rewriteBatchedStatements=true 설정 시 multi-row insert로 전송됩니다)
+ */
+@Transactional
+public class NotificationRepositoryExtensionImpl implements NotificationRepositoryExtension {
+
+    private static final String INSERT_SQL = "insert into notification " +
+            "(title, link, message, checked, account_id, created_date_time, notification_type) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public NotificationRepositoryExtensionImpl(JdbcTemplate jdbcTemplate, AppProperties appProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = appProperties.getNotificationBatchSize();
+    }
+
+    /**
+     * 알림 목록을 app.notification-batch-size 단위의 JDBC 배치로 저장합니다.
+     * 저장된 알림의 ID는 엔티티에 채워지지 않습니다.
+     * @param notifications
+     */
+    @Override
+    public void bulkInsert(List<Notification> notifications) {
+        if(notifications.isEmpty()) {
+            return;
+        }
+
+        this.jdbcTemplate.batchUpdate(INSERT_SQL, notifications, this.batchSize, (ps, notification) -> {
+            ps.setString(1, notification.getTitle());
+            ps.setString(2, notification.getLink());
+            ps.setString(3, notification.getMessage());
+            ps.setBoolean(4, notification.isChecked());
+            ps.setLong(5, notification.getAccount().getId());
+            ps.setTimestamp(6, Timestamp.valueOf(notification.getCreatedDateTime()));
+            ps.setString(7, notification.getNotificationType().name());
+        });
+    }
+}
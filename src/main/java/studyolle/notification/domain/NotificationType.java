@@ -2,5 +2,5 @@ package studyolle.notification.domain;
 
 public enum NotificationType {
 
-    STUDY_CREATED, STUDY_UPDATED, EVENT_ENROLLMENT;
+    STUDY_CREATED, STUDY_UPDATED, EVENT_ENROLLMENT, EVENT_REMINDER;
 }
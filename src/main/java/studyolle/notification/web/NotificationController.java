@@ -48,7 +48,8 @@ public class NotificationController {
         for (var notification : notifications) {
             switch (notification.getNotificationType()) {
                 case STUDY_CREATED: newStudyNotifications.add(notification); break;
-                case EVENT_ENROLLMENT: eventEnrollmentNotifications.add(notification); break;
+                case EVENT_ENROLLMENT:
+                case EVENT_REMINDER: eventEnrollmentNotifications.add(notification); break;
                 case STUDY_UPDATED: watchingStudyNotifications.add(notification); break;
             }
         }
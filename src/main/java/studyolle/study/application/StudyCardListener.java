@@ -0,0 +1,33 @@
+package studyolle.study.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudyCardListener {
+
+    private final StudyCardService studyCardService;
+
+    /**
+     * 애플리케이션 시작 시 공개된 스터디의 카드를 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildCards() {
+        log.info("study cards built : {} studies", this.studyCardService.rebuild());
+    }
+
+    /**
+     * 스터디 변경이 커밋 된 후 해당 스터디의 카드를 다시 만듭니다.
+     * @param studyChangedEvent
+     */
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        this.studyCardService.refresh(studyChangedEvent.getStudyId());
+    }
+}
@@ -0,0 +1,99 @@
+package studyolle.study.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyCard;
+import studyolle.study.domain.StudyCardRepository;
+import studyolle.study.domain.StudyRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메인, 검색 화면의 스터디 카드(StudyCard)를 관리합니다.
+ * 카드 목록은 study_card 테이블 한 번의 조회로 만들고, 스터디가 변경되면 해당 스터디의 카드만 다시 만듭니다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StudyCardService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final StudyCardRepository studyCardRepository;
+    private final StudyRepository studyRepository;
+
+    /**
+     * 최근 공개 된 종료되지 않은 스터디 9개의 카드를 반환합니다.
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<StudyCard> findRecentCards() {
+        return this.studyCardRepository.findTop9ByClosedOrderByPublishedDateTimeDesc(false);
+    }
+
+    /**
+     * 스터디 ID 목록의 카드를 ID 목록의 순서대로 반환합니다. (공개되지 않은 스터디는 제외)
+     * @param studyIds
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<StudyCard> findCards(List<Long> studyIds) {
+        if(studyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, StudyCard> cards = this.studyCardRepository.findAllById(studyIds).stream()
+                .collect(Collectors.toMap(StudyCard::getStudyId, Function.identity()));
+        return studyIds.stream()
+                .map(cards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 스터디의 카드를 다시 만듭니다. 공개되지 않았거나 삭제된 스터디의 카드는 지웁니다.
+     * 스터디 변경이 커밋 된 후에 호출되므로 새 트랜잭션에서 처리합니다.
+     * 같은 스터디의 변경이 연달아 커밋되어도 스터디 행을 먼저 잠가서 순서대로 처리하므로,
+     * 카드를 중복으로 만들거나 먼저 읽은 이전 스터디 값으로 카드를 덮어쓰지 않습니다.
+     * @param studyId
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refresh(Long studyId) {
+        Study study = this.studyRepository.findForUpdateById(studyId)
+                .flatMap(lockedStudy -> this.studyRepository.findStudyWithTagsAndZonesById(studyId))
+                .orElse(null);
+        if(study == null || !study.isPublished()) {
+            this.studyCardRepository.findById(studyId).ifPresent(this.studyCardRepository::delete);
+            return;
+        }
+
+        this.studyCardRepository.save(this.studyCardRepository.findById(studyId)
+                .orElseGet(() -> new StudyCard(studyId))
+                .update(study));
+    }
+
+    /**
+     * 공개된 모든 스터디의 카드를 다시 만들고, 공개되지 않은 스터디의 카드를 지웁니다.
+     * @return 카드 수
+     */
+    public int rebuild() {
+        this.studyCardRepository.deleteUnpublished();
+
+        List<Long> studyIds = this.studyRepository.findPublishedStudyIds();
+        for(int from = 0; from < studyIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = studyIds.subList(from, Math.min(from + CHUNK_SIZE, studyIds.size()));
+            Map<Long, StudyCard> cards = this.studyCardRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(StudyCard::getStudyId, Function.identity()));
+            this.studyCardRepository.saveAll(this.studyRepository.findWithTagsAndZonesByIds(chunk).stream()
+                    .map(study -> cards.getOrDefault(study.getId(), new StudyCard(study.getId())).update(study))
+                    .collect(Collectors.toList()));
+            this.studyCardRepository.flush();
+        }
+        return studyIds.size();
+    }
+}
@@ -0,0 +1,6 @@
+package studyolle.study.application;
+
+public enum StudyChangeType {
+
+    TITLE, TAGS, ZONES, PUBLISHED, MEMBERS, REMOVED, DESCRIPTION, IMAGE, PATH, CLOSED;
+}
@@ -0,0 +1,17 @@
+package studyolle.study.application;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스터디의 검색/목록에 영향을 주는 값이 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 이후 다시 조회 할 수 있도록 엔티티가 아닌 스터디 ID를 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StudyChangedEvent {
+
+    private final Long studyId;
+
+    private final StudyChangeType changeType;
+}
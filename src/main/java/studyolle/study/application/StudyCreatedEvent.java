@@ -1,13 +1,18 @@
 package studyolle.study.application;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEvent;
-import studyolle.study.domain.Study;
+import lombok.NoArgsConstructor;
 
+/**
+ * 스터디가 공개되었음을 알리는 이벤트
+ * outbox에 JSON으로 저장되므로 엔티티가 아닌 스터디 ID를 가집니다.
+ */
 @Getter
-@RequiredArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
 public class StudyCreatedEvent {
 
-    private final Study study;
+    private Long studyId;
 }
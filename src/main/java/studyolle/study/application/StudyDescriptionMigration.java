@@ -0,0 +1,46 @@
+package studyolle.study.application;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import studyolle.common.migration.DataMigration;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * 상세 소개를 study_description 테이블로 나누기 전에 study.full_description 컬럼(@Lob)에 저장한 소개를
+ * study_description으로 옮기고 study.description_id를 채웁니다.
+ * 옛 컬럼의 값은 지우지 않으며, 스터디 하나씩 읽어서 옮기므로 스터디가 많아도 메모리를 적게 사용합니다.
+ */
+@Component
+public class StudyDescriptionMigration implements DataMigration {
+
+    @Override
+    public String getName() {
+        return "004-study-description";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        if(!DataMigration.hasColumn(jdbcTemplate, "study", "full_description")) {
+            return;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList("select id from study " +
+                "where full_description is not null and description_id is null", Long.class);
+        for(Long id : ids) {
+            String content = jdbcTemplate.queryForObject("select full_description from study where id = ?"
+                    , String.class, id);
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "insert into study_description (content) values (?)", new String[]{"id"});
+                statement.setString(1, content);
+                return statement;
+            }, keyHolder);
+            jdbcTemplate.update("update study set description_id = ? where id = ?", keyHolder.getKey().longValue(), id);
+        }
+    }
+}
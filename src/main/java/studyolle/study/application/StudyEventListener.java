@@ -3,66 +3,119 @@ package studyolle.study.application;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import studyolle.account.domain.Account;
-import studyolle.account.domain.AccountPredicates;
 import studyolle.account.domain.AccountRepository;
+import studyolle.account.dto.NotificationRecipient;
+import studyolle.config.AppProperties;
+import studyolle.notification.application.EmailDigestService;
+import studyolle.notification.application.NotificationCountCache;
+import studyolle.notification.domain.EmailDigestItem;
 import studyolle.notification.domain.Notification;
 import studyolle.notification.domain.NotificationRepository;
 import studyolle.notification.domain.NotificationType;
 import studyolle.study.domain.Study;
 import studyolle.study.domain.StudyRepository;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.Stream;
 
 @Component
-@Async
 @Transactional
 @RequiredArgsConstructor
 @Slf4j
 public class StudyEventListener {
 
     private final AccountRepository accountRepository;
+    private final StudyRepository studyRepository;
     private final NotificationRepository notificationRepository;
+    private final NotificationCountCache notificationCountCache;
+    private final EmailDigestService emailDigestService;
+    private final AppProperties appProperties;
 
+    /**
+     * 스터디의 관심분야, 활동지역과 겹치는 계정에게 스터디 개설 알림을 보냅니다.
+     * 대상 계정은 ID와 알림 설정만 스트림으로 읽고, 알림은 배치 크기 단위로 나누어 저장합니다.
+     * 계정 엔티티(프록시)를 만들지 않으므로 영속성 컨텍스트가 대상 계정 수 만큼 커지지 않습니다.
+     * 이메일 알림은 다이제스트에 쌓아 두고 EmailDigestService가 계정별로 모아서 보냅니다.
+     * @param studyCreatedEvent
+     */
     @EventListener
     public void handleStudyCreatedEvent(StudyCreatedEvent studyCreatedEvent) {
-        Study study = studyCreatedEvent.getStudy();
-        this.accountRepository
-                .findAll(AccountPredicates.findByTagsAndZones(study.getTags(), study.getZones()))
-                .forEach(account -> {
-                    if(account.isStudyCreatedByWeb()) {
-                        this.notificationRepository.save(Notification.create(study, account, study.getShortDescription()
-                                , NotificationType.STUDY_CREATED));
-                    }
+        Study study = this.studyRepository.findStudyWithTagsAndZonesById(studyCreatedEvent.getStudyId()).orElse(null);
+        if(study == null || study.getTags().isEmpty() || study.getZones().isEmpty()) {
+            return;
+        }
 
-                    if(account.isStudyCreatedByEmail()) {
-                        // TODO 이메일 시스템 구축 후 이메일 알림 전송 추가
-                    }
-                });
+        try (Stream<NotificationRecipient> recipients = this.accountRepository
+                .streamStudyCreatedRecipients(study.getTags(), study.getZones())) {
+            this.notify(study, recipients, study.getShortDescription(), NotificationType.STUDY_CREATED);
+        }
     }
 
+    /**
+     * 스터디 멤버에게 스터디 변경 알림을 보냅니다.
+     * 멤버 컬렉션을 읽지 않고 멤버의 ID와 알림 설정만 스트림으로 읽으므로 멤버 수와 관계없이 메모리를 적게 사용합니다.
+     * @param studyUpdatedEvent
+     */
     @EventListener
     public void handleStudyUpdatedEvent(StudyUpdatedEvent studyUpdatedEvent) {
-        Study study = studyUpdatedEvent.getStudy();
-        String message = studyUpdatedEvent.getMessage();
+        Study study = this.studyRepository.findById(studyUpdatedEvent.getStudyId()).orElse(null);
+        if(study == null) {
+            return;
+        }
 
-        study.getMembers().stream()
-                .forEach(account -> {
-                    if(account.isStudyCreatedByWeb()) {
-                        this.notificationRepository.save(Notification.create(study, account, message
-                                , NotificationType.STUDY_UPDATED));
-                    }
+        try (Stream<NotificationRecipient> recipients = this.accountRepository
+                .streamStudyUpdatedRecipients(study.getId())) {
+            this.notify(study, recipients, studyUpdatedEvent.getMessage(), NotificationType.STUDY_UPDATED);
+        }
+    }
+
+    /**
+     * 웹 알림 설정 계정의 알림은 배치 크기 단위로 나누어 저장하고, 이메일 알림 설정 계정은 다이제스트에 추가합니다.
+     * @param study
+     * @param recipients
+     * @param message
+     * @param notificationType
+     */
+    private void notify(Study study, Stream<NotificationRecipient> recipients, String message
+            , NotificationType notificationType) {
+        int batchSize = this.appProperties.getNotificationBatchSize();
+        List<Notification> notifications = new ArrayList<>(batchSize);
+        List<EmailDigestItem> emailDigestItems = new ArrayList<>(batchSize);
+        recipients.forEach(recipient -> {
+            if(!recipient.isByWeb() && !recipient.isByEmail()) {
+                return;
+            }
+            Notification notification = Notification.create(study, recipient.getAccountId(), message, notificationType);
+            if(recipient.isByWeb()) {
+                notifications.add(notification);
+                if(notifications.size() >= batchSize) {
+                    this.saveNotifications(notifications);
+                    notifications.clear();
+                }
+            }
+
+            if(recipient.isByEmail()) {
+                emailDigestItems.add(EmailDigestItem.of(recipient.getAccountId(), recipient.getEmail()
+                        , recipient.getNickname(), notification));
+                if(emailDigestItems.size() >= batchSize) {
+                    this.emailDigestService.add(emailDigestItems);
+                    emailDigestItems.clear();
+                }
+            }
+        });
+        this.saveNotifications(notifications);
+        this.emailDigestService.add(emailDigestItems);
+    }
 
-                    if(account.isStudyCreatedByEmail()) {
-                        // TODO 이메일 시스템 구축 후 이메일 알림 전송 추가
-                    }
-                });
+    /**
+     * 여러 계정의 알림을 JDBC 배치로 한 번에 저장하고, 계정별 알림 수 캐시를 증가시킵니다.
+     * @param notifications
+     */
+    private void saveNotifications(List<Notification> notifications) {
+        this.notificationRepository.bulkInsert(notifications);
+        notifications.forEach(notification -> this.notificationCountCache.increment(notification.getAccount().getId()));
     }
 }
@@ -0,0 +1,61 @@
+package studyolle.study.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyolle.account.application.AccountInterestChangedEvent;
+import studyolle.config.AsyncConfig;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 피드 작업은 모두 AsyncConfig.FEED_EXECUTOR 에서 하나씩 순서대로 처리합니다.
+ */
+@Component
+@Async(AsyncConfig.FEED_EXECUTOR)
+@RequiredArgsConstructor
+@Slf4j
+public class StudyFeedListener {
+
+    private static final Set<StudyChangeType> FEED_CHANGE_TYPES = EnumSet.of(
+            StudyChangeType.PUBLISHED, StudyChangeType.TAGS, StudyChangeType.ZONES, StudyChangeType.REMOVED);
+
+    private final StudyFeedService studyFeedService;
+
+    /**
+     * 애플리케이션 시작 시 관심분야와 활동지역이 있는 계정의 피드를 다시 만듭니다.
+     * 계정마다 별도의 트랜잭션에서 처리합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildFeeds() {
+        List<Long> accountIds = this.studyFeedService.findAccountIdsHavingFeed();
+        accountIds.forEach(this.studyFeedService::rebuildAccount);
+        log.info("study feeds built : {} accounts", accountIds.size());
+    }
+
+    /**
+     * 스터디의 공개 여부, 관심분야, 활동지역이 변경되면 해당 스터디의 피드를 다시 계산합니다.
+     * @param studyChangedEvent
+     */
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        if(FEED_CHANGE_TYPES.contains(studyChangedEvent.getChangeType())) {
+            this.studyFeedService.refreshStudy(studyChangedEvent.getStudyId());
+        }
+    }
+
+    /**
+     * 계정의 관심분야, 활동지역이 변경되면 해당 계정의 피드를 다시 만듭니다.
+     * @param accountInterestChangedEvent
+     */
+    @TransactionalEventListener
+    public void handleAccountInterestChangedEvent(AccountInterestChangedEvent accountInterestChangedEvent) {
+        this.studyFeedService.rebuildAccount(accountInterestChangedEvent.getAccountId());
+    }
+}
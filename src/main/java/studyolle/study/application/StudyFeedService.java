@@ -0,0 +1,117 @@
+package studyolle.study.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.config.AppProperties;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyCard;
+import studyolle.study.domain.StudyFeed;
+import studyolle.study.domain.StudyFeedRepository;
+import studyolle.study.domain.StudyRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 계정별 관심 스터디 피드를 관리합니다.
+ * 스터디의 공개, 관심분야, 활동지역 변경과 계정의 관심분야, 활동지역 변경 시 해당 부분만 다시 계산하며,
+ * 계정별 피드는 최근 공개 순으로 최대 app.study-feed-size 개를 유지합니다.
+ * 애플리케이션 시작 시 모든 계정의 피드를 다시 만들고, 작업은 StudyFeedListener가 하나의 스레드에서 순서대로 실행합니다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StudyFeedService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final StudyFeedRepository studyFeedRepository;
+    private final StudyRepository studyRepository;
+    private final AccountRepository accountRepository;
+    private final AppProperties appProperties;
+    private final StudyCardService studyCardService;
+
+    /**
+     * 로그인 된 계정의 관심 분야와 활동 지역을 가지고 있는 스터디를 피드에서 조회합니다.
+     * @param account
+     * @return 최근 공개 순의 스터디 카드 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StudyCard> findFeedStudies(Account account) {
+        List<Long> studyIds = this.studyFeedRepository.findStudyIdsByAccountId(account.getId()
+                , PageRequest.of(0, this.appProperties.getStudyFeedSize()));
+        return this.studyCardService.findCards(studyIds);
+    }
+
+    /**
+     * 스터디의 피드 행을 다시 계산합니다.
+     * 공개되지 않았거나 삭제된 스터디는 모든 피드에서 제거됩니다.
+     * 스터디가 빠진 계정의 피드는 다시 만들어서 비는 자리를 그 다음 최근 스터디로 채웁니다.
+     * @param studyId
+     */
+    public void refreshStudy(Long studyId) {
+        Set<Long> previousAccountIds = new HashSet<>(this.studyFeedRepository.findAccountIdsByStudyId(studyId));
+        this.studyFeedRepository.deleteByStudyId(studyId);
+
+        Study study = this.studyRepository.findStudyWithTagsAndZonesById(studyId).orElse(null);
+        List<Long> accountIds = study == null || !study.isPublished() || study.getTags().isEmpty()
+                || study.getZones().isEmpty() ? new ArrayList<>()
+                : this.accountRepository.findIdsByTagsAndZones(study.getTags(), study.getZones());
+        for(int from = 0; from < accountIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = accountIds.subList(from, Math.min(from + CHUNK_SIZE, accountIds.size()));
+            this.studyFeedRepository.saveAll(chunk.stream()
+                    .map(accountId -> new StudyFeed(accountId, study.getId(), study.getPublishedDateTime()))
+                    .collect(Collectors.toList()));
+            this.studyFeedRepository.flush();
+            this.trim(chunk);
+        }
+
+        accountIds.forEach(previousAccountIds::remove);
+        previousAccountIds.forEach(this::rebuildAccount);
+    }
+
+    /**
+     * 피드를 가질 수 있는 (관심분야와 활동지역이 모두 있는) 계정의 ID를 조회합니다.
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findAccountIdsHavingFeed() {
+        return this.accountRepository.findIdsHavingTagsAndZones();
+    }
+
+    /**
+     * 계정의 피드를 현재 관심분야, 활동지역 기준으로 다시 만듭니다.
+     * @param accountId
+     */
+    public void rebuildAccount(Long accountId) {
+        this.studyFeedRepository.deleteByAccountId(accountId);
+
+        this.accountRepository.findWithTagsAndZonesById(accountId)
+                .ifPresent(account -> this.studyFeedRepository.saveAll(this.studyRepository.findFeedsByTagsAndZones(
+                        accountId, account.getTags(), account.getZones(), this.appProperties.getStudyFeedSize())));
+    }
+
+    /**
+     * 피드 크기를 넘은 계정의 오래된 피드 행을 삭제합니다.
+     * @param accountIds
+     */
+    private void trim(List<Long> accountIds) {
+        int feedSize = this.appProperties.getStudyFeedSize();
+        this.studyFeedRepository.findAccountIdsExceedingSize(accountIds, feedSize)
+                .forEach(accountId -> {
+                    List<LocalDateTime> cutoff = this.studyFeedRepository
+                            .findPublishedDateTimesByAccountId(accountId, PageRequest.of(feedSize - 1, 1));
+                    if(!cutoff.isEmpty() && cutoff.get(0) != null) {
+                        this.studyFeedRepository.deleteByAccountIdAndPublishedDateTimeBefore(accountId, cutoff.get(0));
+                    }
+                });
+    }
+}
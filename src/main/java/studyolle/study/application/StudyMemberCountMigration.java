@@ -0,0 +1,25 @@
+package studyolle.study.application;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import studyolle.common.migration.DataMigration;
+
+/**
+ * 스터디를 만든 계정도 멤버 수에 포함하기 전에 만들어진 스터디의 member_count를 study_members의 행 수로 다시 채웁니다.
+ * (채우지 않으면 이전 스터디는 새 스터디보다 멤버 수가 1 적게 보이고, 멤버 수 정렬도 어긋납니다)
+ * 스터디 카드, 검색 인덱스는 이 작업 후 애플리케이션 시작 시 다시 만들어지므로 바뀐 멤버 수가 반영됩니다.
+ */
+@Component
+public class StudyMemberCountMigration implements DataMigration {
+
+    @Override
+    public String getName() {
+        return "005-study-member-count";
+    }
+
+    @Override
+    public void migrate(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("update study s set member_count = " +
+                "(select count(*) from study_members sm where sm.study_id = s.id)");
+    }
+}
@@ -0,0 +1,46 @@
+package studyolle.study.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.view.RedirectView;
+import studyolle.account.domain.security.UserAccount;
+import studyolle.study.domain.Study;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 스터디 화면에서 로그인 한 계정의 가입 여부(studyMember)를 모델에 추가합니다.
+ * 멤버 컬렉션을 읽지 않고 join 테이블의 인덱스로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StudyMemberInterceptor implements HandlerInterceptor {
+
+    private final StudyService studyService;
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
+        if(modelAndView == null || this.isRedirectView(modelAndView)) {
+            return;
+        }
+        Object study = modelAndView.getModel().get("study");
+        if(!(study instanceof Study) || ((Study) study).getId() == null) {
+            return;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean member = authentication != null && authentication.getPrincipal() instanceof UserAccount
+                && this.studyService.isMember(((Study) study).getId()
+                        , ((UserAccount) authentication.getPrincipal()).getAccountId());
+        modelAndView.addObject("studyMember", member);
+    }
+
+    private boolean isRedirectView(ModelAndView modelAndView) {
+        return (modelAndView.getViewName() != null && modelAndView.getViewName().startsWith("redirect:"))
+                || modelAndView.getView() instanceof RedirectView;
+    }
+}
@@ -0,0 +1,229 @@
+package studyolle.study.application;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import studyolle.study.domain.Study;
+import studyolle.tag.domain.Tag;
+import studyolle.zone.domain.Zone;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 공개된 스터디의 검색 인덱스 (메모리)
+ * 스터디명, 관심분야명, 활동지역명을 2글자 단위(bigram)로 나누어 역색인을 만들고,
+ * 검색 시 키워드의 bigram 목록으로 후보를 좁힌 뒤 부분 문자열 포함 여부를 확인합니다.
+ * (기존 containsIgnoreCase 검색과 같은 결과를 반환합니다)
+ */
+@Component
+public class StudySearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+
+    private final Map<Long, StudyDocument> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return this.ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * 스터디를 인덱스에 추가하거나 갱신합니다.
+     * 공개되지 않은 스터디는 인덱스에서 제거합니다.
+     * @param study 관심분야, 활동지역이 로딩 된 스터디
+     */
+    public void index(Study study) {
+        if(!study.isPublished()) {
+            this.remove(study.getId());
+            return;
+        }
+
+        StudyDocument document = StudyDocument.of(study);
+        this.lock.writeLock().lock();
+        try {
+            this.removeDocument(study.getId());
+            this.documents.put(document.getId(), document);
+            document.grams().forEach(gram ->
+                    this.postings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.getId()));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long studyId) {
+        this.lock.writeLock().lock();
+        try {
+            this.removeDocument(studyId);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(Long studyId) {
+        StudyDocument removed = this.documents.remove(studyId);
+        if(removed == null) {
+            return;
+        }
+        removed.grams().forEach(gram -> {
+            Set<Long> ids = this.postings.get(gram);
+            if(ids != null) {
+                ids.remove(studyId);
+                if(ids.isEmpty()) {
+                    this.postings.remove(gram);
+                }
+            }
+        });
+    }
+
+    /**
+     * 키워드에 맞는 스터디 ID를 정렬, 페이징 하여 반환합니다.
+     * 정렬은 publishedDateTime, memberCount를 지원하며 정렬 조건이 없으면 공개일 역순입니다.
+     * @param keyword
+     * @param pageable
+     * @return
+     */
+    public Page<Long> search(String keyword, Pageable pageable) {
+        String normalizedKeyword = normalize(keyword);
+        List<StudyDocument> matched;
+
+        this.lock.readLock().lock();
+        try {
+            matched = this.candidates(normalizedKeyword).stream()
+                    .map(this.documents::get)
+                    .filter(document -> document != null && document.matches(normalizedKeyword))
+                    .collect(Collectors.toList());
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        matched.sort(comparator(pageable.getSort()));
+        int total = matched.size();
+        int from = (int) Math.min(pageable.getOffset(), total);
+        int to = Math.min(from + pageable.getPageSize(), total);
+        List<Long> content = matched.subList(from, to).stream()
+                .map(StudyDocument::getId)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 키워드의 bigram을 모두 가지고 있는 스터디 ID를 후보로 반환합니다.
+     * 키워드가 bigram보다 짧은 경우 모든 스터디가 후보입니다.
+     */
+    private Collection<Long> candidates(String keyword) {
+        if(keyword.length() < GRAM_SIZE) {
+            return new ArrayList<>(this.documents.keySet());
+        }
+
+        List<Set<Long>> postingLists = new ArrayList<>();
+        for(String gram : grams(keyword)) {
+            Set<Long> ids = this.postings.get(gram);
+            if(ids == null) {
+                return Collections.emptyList();
+            }
+            postingLists.add(ids);
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(postingLists.get(0));
+        for(int i = 1; i < postingLists.size() && !result.isEmpty(); i++) {
+            result.retainAll(postingLists.get(i));
+        }
+        return result;
+    }
+
+    private static Comparator<StudyDocument> comparator(Sort sort) {
+        Comparator<StudyDocument> comparator = null;
+        for(Sort.Order order : sort) {
+            Comparator<StudyDocument> next = propertyComparator(order.getProperty());
+            if(next == null) {
+                continue;
+            }
+            next = order.isAscending() ? next : next.reversed();
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+
+        if(comparator == null) {
+            comparator = propertyComparator("publishedDateTime").reversed();
+        }
+        return comparator.thenComparing(Comparator.comparing(StudyDocument::getId).reversed());
+    }
+
+    private static Comparator<StudyDocument> propertyComparator(String property) {
+        switch (property) {
+            case "publishedDateTime":
+                return Comparator.comparing(StudyDocument::getPublishedDateTime
+                        , Comparator.nullsFirst(Comparator.naturalOrder()));
+            case "memberCount":
+                return Comparator.comparingInt(StudyDocument::getMemberCount);
+            default:
+                return null;
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase();
+    }
+
+    private static Set<String> grams(String term) {
+        Set<String> grams = new HashSet<>();
+        for(int i = 0; i + GRAM_SIZE <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 인덱스에 저장되는 스터디의 검색 대상 값과 정렬 값
+     */
+    @Getter
+    private static class StudyDocument {
+
+        private final Long id;
+        private final List<String> terms;
+        private final LocalDateTime publishedDateTime;
+        private final int memberCount;
+
+        private StudyDocument(Long id, List<String> terms, LocalDateTime publishedDateTime, int memberCount) {
+            this.id = id;
+            this.terms = terms;
+            this.publishedDateTime = publishedDateTime;
+            this.memberCount = memberCount;
+        }
+
+        static StudyDocument of(Study study) {
+            List<String> terms = Stream.concat(Stream.of(study.getTitle()),
+                    Stream.concat(study.getTags().stream().map(Tag::getTitle)
+                            , study.getZones().stream().map(Zone::getLocalNameOfCity)))
+                    .filter(Objects::nonNull)
+                    .map(StudySearchIndex::normalize)
+                    .collect(Collectors.toList());
+            return new StudyDocument(study.getId(), terms, study.getPublishedDateTime(), study.getMemberCount());
+        }
+
+        Set<String> grams() {
+            return this.terms.stream()
+                    .flatMap(term -> StudySearchIndex.grams(term).stream())
+                    .collect(Collectors.toSet());
+        }
+
+        boolean matches(String keyword) {
+            return this.terms.stream().anyMatch(term -> term.contains(keyword));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package studyolle.study.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studyolle.study.domain.StudyRepository;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StudySearchIndexListener {
+
+    private static final int INDEX_CHUNK_SIZE = 500;
+    private static final Set<StudyChangeType> INDEX_CHANGE_TYPES = EnumSet.of(StudyChangeType.TITLE
+            , StudyChangeType.TAGS, StudyChangeType.ZONES, StudyChangeType.PUBLISHED, StudyChangeType.MEMBERS);
+
+    private final StudySearchIndex studySearchIndex;
+    private final StudyRepository studyRepository;
+
+    /**
+     * 애플리케이션 시작 시 공개된 스터디로 검색 인덱스를 만듭니다.
+     * 인덱스가 준비되기 전의 검색은 DB 검색을 사용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<Long> studyIds = this.studyRepository.findPublishedStudyIds();
+        for(int from = 0; from < studyIds.size(); from += INDEX_CHUNK_SIZE) {
+            List<Long> chunk = studyIds.subList(from, Math.min(from + INDEX_CHUNK_SIZE, studyIds.size()));
+            this.studyRepository.findWithTagsAndZonesByIds(chunk)
+                    .forEach(this.studySearchIndex::index);
+        }
+        this.studySearchIndex.markReady();
+        log.info("study search index built : {} studies", studyIds.size());
+    }
+
+    /**
+     * 스터디 변경이 커밋 된 후 해당 스터디의 인덱스를 갱신합니다. (검색, 정렬에 사용하는 값이 변경된 경우)
+     * @param studyChangedEvent
+     */
+    @TransactionalEventListener
+    public void handleStudyChangedEvent(StudyChangedEvent studyChangedEvent) {
+        Long studyId = studyChangedEvent.getStudyId();
+        if(studyChangedEvent.getChangeType() == StudyChangeType.REMOVED) {
+            this.studySearchIndex.remove(studyId);
+            return;
+        }
+        if(!INDEX_CHANGE_TYPES.contains(studyChangedEvent.getChangeType())) {
+            return;
+        }
+
+        this.studyRepository.findStudyWithTagsAndZonesById(studyId)
+                .ifPresentOrElse(this.studySearchIndex::index, () -> this.studySearchIndex.remove(studyId));
+    }
+}
@@ -2,16 +2,24 @@ package studyolle.study.application;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import studyolle.account.domain.Account;
-import studyolle.account.domain.AccountRepository;
+import studyolle.common.image.ImageStore;
+import studyolle.common.image.ImageVariant;
+import studyolle.common.image.ImageVariantGenerator;
+import studyolle.common.outbox.OutboxService;
 import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyCard;
 import studyolle.study.domain.StudyRepository;
 import studyolle.study.dto.StudyDescriptionForm;
 import studyolle.study.dto.StudyForm;
+import studyolle.study.dto.StudyMemberPage;
 import studyolle.tag.domain.Tag;
 import studyolle.zone.domain.Zone;
 
@@ -22,9 +30,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StudyService {
 
+    public static final int MEMBER_PAGE_SIZE = 20;
+
     private final StudyRepository studyRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final AccountRepository accountRepository;
+    private final OutboxService outboxService;
+    private final StudySearchIndex studySearchIndex;
+    private final ImageStore imageStore;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final StudyCardService studyCardService;
 
     /**
      * 입력받은 폼으로 새로운 스터디를 개설합니다.
@@ -47,8 +61,8 @@ public class StudyService {
                 .orElseThrow(() -> new IllegalArgumentException(path + ": 해당 경로의 스터디가 없습니다."));
     }
 
-    public Study findStudyWithMembersByPath(String path) {
-        return this.studyRepository.findStudyWithMembersByPath(path)
+    public Long findIdByPath(String path) {
+        return this.studyRepository.findIdByPath(path)
                 .orElseThrow(() -> new IllegalArgumentException(path + ": 해당 경로의 스터디가 없습니다."));
     }
 
@@ -65,13 +79,24 @@ public class StudyService {
     public Study updateStudyDescription(Account account, String path, StudyDescriptionForm studyDescriptionForm) {
         Study study = this.findByPath(path);
         study.updateDescription(account, studyDescriptionForm);
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study, "스터디 소개가 수정되었습니다."));
+        this.outboxService.append(new StudyUpdatedEvent(study.getId(), "스터디 소개가 수정되었습니다."));
+        this.publishStudyChangedEvent(study, StudyChangeType.DESCRIPTION);
         return study;
     }
 
+    /**
+     * 배너 이미지(data URL)를 ImageStore에 저장하고 스터디에는 키만 저장합니다.
+     * @param account
+     * @param path
+     * @param image
+     */
     public void updateStudyBannerImage(Account account, String path, String image) {
         Study study = this.findByPath(path);
-        study.updateImage(account, image);
+        study.checkedManager(account);
+        String imageKey = this.imageStore.resolveKey(image);
+        study.updateImage(account, imageKey);
+        this.imageVariantGenerator.generate(imageKey, ImageVariant.CARD, ImageVariant.BANNER);
+        this.publishStudyChangedEvent(study, StudyChangeType.IMAGE);
     }
 
     public void updateStudyUseBanner(Account account, String path, boolean useBanner) {
@@ -82,21 +107,25 @@ public class StudyService {
     public void addTag(Account account, String path, Tag tag) {
         Study study = this.findAccountWithTagsByPath(path);
         study.addTag(account, tag);
+        this.publishStudyChangedEvent(study, StudyChangeType.TAGS);
     }
 
     public void removeTag(Account account, String path, Tag tag) {
         Study study = this.findAccountWithTagsByPath(path);
         study.removeTag(account, tag);
+        this.publishStudyChangedEvent(study, StudyChangeType.TAGS);
     }
 
     public void addZone(Account account, String path, Zone zone) {
         Study study = this.findAccountWithZonesByPath(path);
         study.addZone(account, zone);
+        this.publishStudyChangedEvent(study, StudyChangeType.ZONES);
     }
 
     public void removeZone(Account account, String path, Zone zone) {
         Study study = this.findAccountWithZonesByPath(path);
         study.removeZone(account, zone);
+        this.publishStudyChangedEvent(study, StudyChangeType.ZONES);
     }
 
     /**
@@ -108,7 +137,8 @@ public class StudyService {
     public void publish(Account account, String path) {
         Study study = this.findByPath(path);
         study.publish(account);
-        this.eventPublisher.publishEvent(new StudyCreatedEvent(study));
+        this.outboxService.append(new StudyCreatedEvent(study.getId()));
+        this.publishStudyChangedEvent(study, StudyChangeType.PUBLISHED);
     }
 
     /**
@@ -119,7 +149,8 @@ public class StudyService {
     public void close(Account account, String path) {
         Study study = this.findStudyWithManagersByPath(path);
         study.close(account);
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study, "스터디가 종료되었습니다."));
+        this.outboxService.append(new StudyUpdatedEvent(study.getId(), "스터디가 종료되었습니다."));
+        this.publishStudyChangedEvent(study, StudyChangeType.CLOSED);
     }
 
     /**
@@ -130,7 +161,7 @@ public class StudyService {
     public void startRecruit(Account account, String path) {
         Study study = this.findStudyWithManagersByPath(path);
         study.startRecruit(account);
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study
+        this.outboxService.append(new StudyUpdatedEvent(study.getId()
                 , "스터디에서 팀원 모집이 시작되었습니다."));
     }
 
@@ -142,7 +173,7 @@ public class StudyService {
     public void stopRecruit(Account account, String path) {
         Study study = this.findStudyWithManagersByPath(path);
         study.stopRecruit(account);
-        this.eventPublisher.publishEvent(new StudyUpdatedEvent(study
+        this.outboxService.append(new StudyUpdatedEvent(study.getId()
                 , "스터디에서 팀원 모집이 중단되었습니다."));
     }
 
@@ -158,6 +189,7 @@ public class StudyService {
 
         if(!this.studyRepository.existsByPath(newPath)) {
             study.changePath(account, newPath);
+            this.publishStudyChangedEvent(study, StudyChangeType.PATH);
         }
     }
 
@@ -170,6 +202,7 @@ public class StudyService {
     public void changeStudyTitle(Account account, String path, String newTitle) {
         Study study = this.findStudyWithManagersByPath(path);
         study.changeTitle(account, newTitle);
+        this.publishStudyChangedEvent(study, StudyChangeType.TITLE);
     }
 
     /**
@@ -181,30 +214,45 @@ public class StudyService {
         Study study = this.findStudyWithManagersByPath(path);
         study.checkedManager(account);
         this.studyRepository.delete(study);
+        this.publishStudyChangedEvent(study, StudyChangeType.REMOVED);
     }
 
     /**
      * 스터디에 해당 계정을 추가합니다. (가입)
+     * 멤버 컬렉션을 읽지 않고 join 테이블에 한 행을 추가하고, 행을 추가한 경우에만 멤버 수를 DB에서 1 증가 시킵니다.
+     * 이미 가입한 계정이면 아무것도 하지 않으며, 같은 계정이 동시에 가입해 기본 키가 중복되면 이미 가입한 것으로 거부합니다.
      * @param account
      * @param path
-     * @return
      */
-    public Study joinStudy(Account account, String path) {
-        Study study = this.findStudyWithMembersByPath(path);
-        study.joinMember(account);
-        return study;
+    public void joinStudy(Account account, String path) {
+        Long studyId = this.findIdByPath(path);
+        int inserted;
+        try {
+            inserted = this.studyRepository.insertMember(studyId, account.getId());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 가입한 스터디입니다.");
+        }
+        if(inserted == 0) {
+            return;
+        }
+        this.studyRepository.addMemberCount(studyId, 1);
+        this.publishStudyChangedEvent(studyId, StudyChangeType.MEMBERS);
     }
 
     /**
      * 스터디에서 해당 계정을 삭제합니다. (탈퇴)
+     * 매니저인 경우 매니저에서도 삭제하며, 멤버 행이 삭제된 경우에만 멤버 수를 DB에서 1 감소 시킵니다.
      * @param account
      * @param path
-     * @return
      */
-    public Study leaveStudy(Account account, String path) {
-        Study study = this.findStudyWithMembersByPath(path);
-        study.leaveMember(account);
-        return study;
+    public void leaveStudy(Account account, String path) {
+        Long studyId = this.findIdByPath(path);
+        this.studyRepository.deleteManager(studyId, account.getId());
+        if(this.studyRepository.deleteMember(studyId, account.getId()) == 0) {
+            return;
+        }
+        this.studyRepository.addMemberCount(studyId, -1);
+        this.publishStudyChangedEvent(studyId, StudyChangeType.MEMBERS);
     }
 
     /**
@@ -213,13 +261,36 @@ public class StudyService {
      * @param account
      */
     public void checkedMember(String path, Account account) {
-        Study study = this.studyRepository.findStudyWithManagersAndMembersByPath(path)
-                .orElseThrow(() -> new IllegalArgumentException(path + ": 해당 경로의 스터디가 없습니다."));
-        if(!study.isManager(account) && !study.isMember(account)) {
+        Long studyId = this.findIdByPath(path);
+        if(this.studyRepository.countManager(studyId, account.getId()) == 0
+                && this.studyRepository.countMember(studyId, account.getId()) == 0) {
             throw new IllegalArgumentException("해당 스터디의 회원이아닙니다.");
         }
     }
 
+    @Transactional(readOnly = true)
+    public boolean isMember(Long studyId, Long accountId) {
+        return this.studyRepository.countMember(studyId, accountId) > 0;
+    }
+
+    /**
+     * 스터디의 멤버를 계정 ID 순으로 MEMBER_PAGE_SIZE 명씩 조회합니다.
+     * 다음 페이지는 이전 페이지의 next(마지막 멤버의 계정 ID) 이후부터 조회합니다.
+     * @param study
+     * @param after 이전 페이지의 next (첫 페이지면 null)
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public StudyMemberPage findMembers(Study study, Long after) {
+        List<Account> members = this.studyRepository.findMembers(study.getId(), after == null ? 0L : after
+                , PageRequest.of(0, MEMBER_PAGE_SIZE + 1));
+        if(members.size() <= MEMBER_PAGE_SIZE) {
+            return new StudyMemberPage(members, null);
+        }
+        List<Account> page = members.subList(0, MEMBER_PAGE_SIZE);
+        return new StudyMemberPage(page, page.get(MEMBER_PAGE_SIZE - 1).getId());
+    }
+
     /**
      * 해당 계정이 해당 스터디의 매니저인지 확인합니다.
      * @param path
@@ -230,38 +301,43 @@ public class StudyService {
         study.checkedManager(account);
     }
 
+    private void publishStudyChangedEvent(Study study, StudyChangeType changeType) {
+        this.publishStudyChangedEvent(study.getId(), changeType);
+    }
+
+    private void publishStudyChangedEvent(Long studyId, StudyChangeType changeType) {
+        this.eventPublisher.publishEvent(new StudyChangedEvent(studyId, changeType));
+    }
+
     /**
      * 키워드에 맞는 스터디를 조회 합니다.
      * (스터디명, 활동지역, 관심분야에 해당 키워드가 있는 스터디)
+     * 검색 인덱스에서 해당 페이지의 스터디 ID를 찾은 뒤, 해당 스터디의 카드(StudyCard)만 조회합니다.
+     * 인덱스가 아직 준비되지 않은 경우 DB에서 검색합니다.
      * @param keyword
      * @param pageable
      * @return
      */
-    public Page<Study> searchStudy(String keyword, Pageable pageable) {
-        return this.studyRepository.findByKeyword(keyword, pageable);
-    }
+    @Transactional(readOnly = true)
+    public Page<StudyCard> searchStudy(String keyword, Pageable pageable) {
+        if(!this.studySearchIndex.isReady()) {
+            return this.studyRepository.findByKeyword(keyword, pageable).map(StudyCard::of);
+        }
 
-    /**
-     * 최근 오픈 된 9개의 스터디를 찾아 반환합니다.
-     * @return
-     */
-    public List<Study> findTop9ByOrderPublishedDateTime() {
-        return this.studyRepository
-                .findTop9ByPublishedAndClosedOrderByPublishedDateTimeDesc(true, false);
+        Page<Long> studyIdPage = this.studySearchIndex.search(keyword, pageable);
+        return new PageImpl<>(this.studyCardService.findCards(studyIdPage.getContent())
+                , pageable, studyIdPage.getTotalElements());
     }
 
-
     /**
-     * 로그인 된 계정의 관심 분야와 활동 지역을 가지고 있는 스터디를 조회합니다.
-     * @param account
+     * 최근 오픈 된 9개의 스터디 카드를 찾아 반환합니다.
      * @return
      */
-    public List<Study> findByZonesAndTagsForAccount(Account account) {
-        Account persistAccount = this.accountRepository.findWithTagsAndZonesById(account.getId())
-                .orElseThrow(IllegalAccessError::new);
-        return this.studyRepository.findByTagsAndZones(persistAccount.getTags(), persistAccount.getZones());
+    public List<StudyCard> findTop9ByOrderPublishedDateTime() {
+        return this.studyCardService.findRecentCards();
     }
 
+
     public List<Study> findManagedStudy(Account account) {
         return this.studyRepository
                 .findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(account, false);
@@ -1,14 +1,20 @@
 package studyolle.study.application;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
-import studyolle.study.domain.Study;
+import lombok.NoArgsConstructor;
 
-@RequiredArgsConstructor
+/**
+ * 스터디 멤버에게 알릴 변경이 있음을 알리는 이벤트
+ * outbox에 JSON으로 저장되므로 엔티티가 아닌 스터디 ID를 가집니다.
+ */
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
 public class StudyUpdatedEvent {
 
-    private final Study study;
+    private Long studyId;
 
-    private final String message;
+    private String message;
 }
@@ -0,0 +1,26 @@
+package studyolle.study.domain;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 문자열 목록을 줄바꿈으로 이어 한 컬럼에 저장합니다. (관심분야명, 활동지역명은 한 줄입니다)
+ */
+@Converter
+public class StringListConverter implements AttributeConverter<List<String>, String> {
+
+    private static final String DELIMITER = "\n";
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        return values == null || values.isEmpty() ? "" : String.join(DELIMITER, values);
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String value) {
+        return value == null || value.isEmpty() ? Collections.emptyList() : Arrays.asList(value.split(DELIMITER));
+    }
+}
@@ -3,6 +3,8 @@ package studyolle.study.domain;
 import lombok.*;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.security.UserAccount;
+import studyolle.common.image.ImageStore;
+import studyolle.common.image.ImageVariant;
 import studyolle.study.dto.StudyDescriptionForm;
 import studyolle.tag.domain.Tag;
 import studyolle.zone.domain.Zone;
@@ -17,24 +19,35 @@ import java.util.stream.Collectors;
 @Getter @Setter @EqualsAndHashCode(of = "id")
 @Builder @NoArgsConstructor @AllArgsConstructor
 @NamedEntityGraph(name = "Study.withAllRelations", attributeNodes = {@NamedAttributeNode("tags")
-        , @NamedAttributeNode("zones"), @NamedAttributeNode("managers"), @NamedAttributeNode("members")})
+        , @NamedAttributeNode("zones"), @NamedAttributeNode("managers")})
 @NamedEntityGraph(name = "Study.withTagsAndManagers", attributeNodes = {
         @NamedAttributeNode("tags"), @NamedAttributeNode("managers")})
 @NamedEntityGraph(name = "Study.withZonesAndManagers", attributeNodes = {
         @NamedAttributeNode("zones"), @NamedAttributeNode("managers")})
+@NamedEntityGraph(name = "Study.withTagsAndZones", attributeNodes = {
+        @NamedAttributeNode("tags"), @NamedAttributeNode("zones")})
 @NamedEntityGraph(name = "Study.withManagers", attributeNodes = {@NamedAttributeNode("managers")})
-@NamedEntityGraph(name = "Study.withMembers", attributeNodes = {@NamedAttributeNode("members")})
-@NamedEntityGraph(name = "Study.withManagersAndMembers", attributeNodes = {
-        @NamedAttributeNode("members"), @NamedAttributeNode("managers")})
 public class Study {
 
+    public static final String DEFAULT_BANNER_IMAGE = "/images/default-banner.png";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToMany
+    @JoinTable(name = "study_managers", joinColumns = @JoinColumn(name = "study_id")
+            , inverseJoinColumns = @JoinColumn(name = "managers_id")
+            , indexes = @Index(name = "idx_study_managers_account", columnList = "managers_id"))
     private final Set<Account> managers = new HashSet<>();
 
+    /**
+     * 멤버 수가 많을 수 있으므로 가입/탈퇴, 가입 여부 확인, 멤버 목록은 컬렉션을 읽지 않고
+     * StudyRepository의 join 테이블 쿼리(insertMember, deleteMember, countMember, findMembers)를 사용합니다.
+     */
     @ManyToMany
+    @JoinTable(name = "study_members", joinColumns = @JoinColumn(name = "study_id")
+            , inverseJoinColumns = @JoinColumn(name = "members_id")
+            , indexes = @Index(name = "idx_study_members_account", columnList = "members_id"))
     private final Set<Account> members = new HashSet<>();
 
     @Column(unique = true)
@@ -44,11 +57,20 @@ public class Study {
 
     private String shortDescription;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
-    private String fullDescription;
+    /**
+     * 상세 소개는 목록 조회에서 읽지 않도록 별도 테이블에 두고 지연 로딩합니다. (getFullDescription)
+     * 소개를 full_description 컬럼에 저장하던 때의 스터디는 StudyDescriptionMigration이 옮깁니다.
+     */
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "description_id")
+    private StudyDescription description;
 
-    @Lob @Basic(fetch = FetchType.EAGER)
-    private String image;
+    /**
+     * ImageStore에 저장된 배너 이미지의 키
+     * 이미지를 image 컬럼에 저장하던 때의 스터디는 ImageDataUrlMigration이 옮깁니다.
+     */
+    @Column(length = 80)
+    private String imageKey;
 
     @ManyToMany
     private final Set<Tag> tags = new HashSet<>();
@@ -72,36 +94,62 @@ public class Study {
 
     private int memberCount;
 
+    /**
+     * 상세 소개를 반환합니다. 처음 호출 할 때 상세 소개를 조회합니다.
+     * @return
+     */
+    public String getFullDescription() {
+        return this.description != null ? this.description.getContent() : null;
+    }
+
     /**
      * 배너 이미지를 반환합니다. (없는 경우 기본 이미지를 반환합니다)
      * @return 
      */
     public String getImage() {
-        return image != null ? image : "/images/default-banner.png";
+        return this.imageKey != null ? ImageStore.urlOf(this.imageKey) : DEFAULT_BANNER_IMAGE;
+    }
+
+    /**
+     * 스터디 목록 카드에 보여줄 작은 배너 이미지를 반환합니다. (없는 경우 기본 이미지를 반환합니다)
+     * @return
+     */
+    public String getCardImage() {
+        return this.imageKey != null ? ImageVariant.CARD.urlOf(this.imageKey) : DEFAULT_BANNER_IMAGE;
+    }
+
+    /**
+     * 스터디 화면 상단에 보여줄 배너 이미지를 반환합니다. (없는 경우 기본 이미지를 반환합니다)
+     * @return
+     */
+    public String getBannerImage() {
+        return this.imageKey != null ? ImageVariant.BANNER.urlOf(this.imageKey) : DEFAULT_BANNER_IMAGE;
     }
 
     public Study addCreateMember(Account account) {
         this.managers.add(account);
         this.members.add(account);
+        this.memberCount++;
         return this;
     }
 
-    public boolean isJoinable(UserAccount userAccount) {
-        Account account = userAccount.getAccount();
+    /**
+     * 가입 할 수 있는 스터디인지 확인합니다.
+     * @param userAccount
+     * @param member 계정의 가입 여부 (StudyRepository.countMember)
+     * @return
+     */
+    public boolean isJoinable(UserAccount userAccount, boolean member) {
         return this.isPublished() && this.isRecruiting()
-                && !this.members.contains(account) && !this.managers.contains(account);
+                && !member && !this.isManager(userAccount);
     }
 
-    public boolean isMember(UserAccount userAccount) {
-        return this.isMember(userAccount.getAccount());
-    }
-
-    public boolean isMember(Account account) {
-        return this.members.contains(account);
+    public boolean isManager(UserAccount userAccount) {
+        return this.containsAccount(this.managers, userAccount.getAccountId());
     }
 
-    public boolean isManager(UserAccount userAccount) {
-        return this.isManager(userAccount.getAccount());
+    private boolean containsAccount(Set<Account> accounts, Long accountId) {
+        return accounts.stream().anyMatch(account -> account.getId().equals(accountId));
     }
 
     public boolean isManager(Account account) {
@@ -121,12 +169,16 @@ public class Study {
     public void updateDescription(Account account, StudyDescriptionForm studyDescriptionForm) {
         this.checkedManager(account);
         this.shortDescription = studyDescriptionForm.getShortDescription();
-        this.fullDescription = studyDescriptionForm.getFullDescription();
+        if(this.description == null) {
+            this.description = new StudyDescription(studyDescriptionForm.getFullDescription());
+        } else {
+            this.description.update(studyDescriptionForm.getFullDescription());
+        }
     }
 
-    public void updateImage(Account account, String image) {
+    public void updateImage(Account account, String imageKey) {
         this.checkedManager(account);
-        this.image = image;
+        this.imageKey = imageKey;
     }
 
     public void updateUseBanner(Account account, boolean useBanner) {
@@ -225,16 +277,11 @@ public class Study {
         this.title = newTitle;
     }
 
-    public void joinMember(Account account) {
-        this.members.add(account);
-        this.memberCount++;
-    }
+    public static class StudyBuilder {
 
-    public void leaveMember(Account account) {
-        if(this.isManager(account)) {
-            this.managers.remove(account);
+        public StudyBuilder fullDescription(String fullDescription) {
+            this.description = new StudyDescription(fullDescription);
+            return this;
         }
-        this.members.remove(account);
-        this.memberCount--;
     }
 }
@@ -0,0 +1,90 @@
+package studyolle.study.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import studyolle.common.image.ImageVariant;
+import studyolle.tag.domain.Tag;
+import studyolle.zone.domain.Zone;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 메인, 검색 화면의 스터디 카드 한 장에 필요한 값만 모아 둔 읽기 모델
+ * 공개된 스터디마다 한 행을 가지며, 관심분야명과 활동지역명을 함께 저장하므로 카드 목록을 조인 없이 한 번에 조회합니다.
+ * 스터디가 변경되면 StudyChangedEvent로 StudyCardService가 다시 만듭니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_study_card_closed_published", columnList = "closed, publishedDateTime"))
+@Getter @EqualsAndHashCode(of = "studyId")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyCard {
+
+    @Id
+    private Long studyId;
+
+    @Column(nullable = false)
+    private String path;
+
+    private String title;
+
+    private String shortDescription;
+
+    /**
+     * ImageStore에 저장된 배너 이미지의 키
+     */
+    @Column(length = 80)
+    private String imageKey;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(length = 4000)
+    private List<String> tagTitles;
+
+    @Convert(converter = StringListConverter.class)
+    @Column(length = 4000)
+    private List<String> zoneNames;
+
+    private int memberCount;
+
+    private LocalDateTime publishedDateTime;
+
+    private boolean closed;
+
+    public StudyCard(Long studyId) {
+        this.studyId = studyId;
+    }
+
+    /**
+     * 관심분야, 활동지역이 로딩 된 스터디로 카드의 값을 갱신합니다.
+     * @param study
+     * @return
+     */
+    public StudyCard update(Study study) {
+        this.path = study.getPath();
+        this.title = study.getTitle();
+        this.shortDescription = study.getShortDescription();
+        this.imageKey = study.getImageKey();
+        this.tagTitles = study.getTags().stream().map(Tag::getTitle).sorted().collect(Collectors.toList());
+        this.zoneNames = study.getZones().stream().map(Zone::getLocalNameOfCity).sorted().collect(Collectors.toList());
+        this.memberCount = study.getMemberCount();
+        this.publishedDateTime = study.getPublishedDateTime();
+        this.closed = study.isClosed();
+        return this;
+    }
+
+    public static StudyCard of(Study study) {
+        return new StudyCard(study.getId()).update(study);
+    }
+
+    /**
+     * 카드에 보여줄 작은 배너 이미지를 반환합니다. (없는 경우 기본 이미지를 반환합니다)
+     * @return
+     */
+    public String getCardImage() {
+        return this.imageKey != null ? ImageVariant.CARD.urlOf(this.imageKey) : Study.DEFAULT_BANNER_IMAGE;
+    }
+}
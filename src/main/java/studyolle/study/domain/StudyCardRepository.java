@@ -0,0 +1,19 @@
+package studyolle.study.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface StudyCardRepository extends JpaRepository<StudyCard, Long> {
+
+    List<StudyCard> findTop9ByClosedOrderByPublishedDateTimeDesc(boolean closed);
+
+    @Transactional
+    @Modifying
+    @Query("delete from StudyCard c where c.studyId not in (select s.id from Study s where s.published = true)")
+    int deleteUnpublished();
+}
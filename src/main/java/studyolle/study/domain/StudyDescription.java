@@ -0,0 +1,33 @@
+package studyolle.study.domain;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 스터디의 상세 소개 (HTML)
+ * 목록 화면에서는 사용하지 않는 큰 값이므로 스터디와 다른 테이블에 저장하고,
+ * 스터디 화면, 소개 수정 화면에서 사용할 때만 지연 로딩합니다.
+ */
+@Entity
+@Getter @EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyDescription {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Lob
+    private String content;
+
+    public StudyDescription(String content) {
+        this.content = content;
+    }
+
+    public void update(String content) {
+        this.content = content;
+    }
+}
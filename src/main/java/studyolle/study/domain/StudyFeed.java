@@ -0,0 +1,37 @@
+package studyolle.study.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 계정별로 미리 계산 해 둔 관심 스터디 목록의 한 행
+ * 계정의 관심분야, 활동지역과 공개된 스터디의 관심분야, 활동지역이 겹치는 경우 저장되며,
+ * 로그인 후 메인 페이지에서 (account_id, published_date_time) 인덱스로 조회합니다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_study_feed_account_published", columnList = "account_id, published_date_time")
+        , uniqueConstraints = @UniqueConstraint(name = "uk_study_feed_account_study", columnNames = {"account_id", "study_id"}))
+@Getter @EqualsAndHashCode(of = "id")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudyFeed {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "study_id", nullable = false)
+    private Long studyId;
+
+    @Column(name = "published_date_time")
+    private LocalDateTime publishedDateTime;
+
+    public StudyFeed(Long accountId, Long studyId, LocalDateTime publishedDateTime) {
+        this.accountId = accountId;
+        this.studyId = studyId;
+        this.publishedDateTime = publishedDateTime;
+    }
+}
@@ -0,0 +1,45 @@
+package studyolle.study.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Transactional
+public interface StudyFeedRepository extends JpaRepository<StudyFeed, Long> {
+
+    @Transactional(readOnly = true)
+    @Query("select f.studyId from StudyFeed f where f.accountId = :accountId order by f.publishedDateTime desc")
+    List<Long> findStudyIdsByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("select f.publishedDateTime from StudyFeed f where f.accountId = :accountId order by f.publishedDateTime desc")
+    List<LocalDateTime> findPublishedDateTimesByAccountId(@Param("accountId") Long accountId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("select f.accountId from StudyFeed f where f.accountId in :accountIds group by f.accountId having count(f) > :size")
+    List<Long> findAccountIdsExceedingSize(@Param("accountIds") Collection<Long> accountIds, @Param("size") long size);
+
+    @Transactional(readOnly = true)
+    @Query("select f.accountId from StudyFeed f where f.studyId = :studyId")
+    List<Long> findAccountIdsByStudyId(@Param("studyId") Long studyId);
+
+    @Modifying
+    @Query("delete from StudyFeed f where f.studyId = :studyId")
+    int deleteByStudyId(@Param("studyId") Long studyId);
+
+    @Modifying
+    @Query("delete from StudyFeed f where f.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("delete from StudyFeed f where f.accountId = :accountId and f.publishedDateTime < :publishedDateTime")
+    int deleteByAccountIdAndPublishedDateTimeBefore(@Param("accountId") Long accountId
+            , @Param("publishedDateTime") LocalDateTime publishedDateTime);
+}
@@ -3,10 +3,14 @@ package studyolle.study.domain;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import studyolle.account.domain.Account;
 
+import javax.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,15 +30,76 @@ public interface StudyRepository extends JpaRepository<Study, Long>, StudyReposi
     @EntityGraph(value = "Study.withManagers", type = EntityGraph.EntityGraphType.LOAD)
     Optional<Study> findStudyWithManagersByPath(String path);
 
-    @EntityGraph(value = "Study.withMembers", type = EntityGraph.EntityGraphType.LOAD)
-    Optional<Study> findStudyWithMembersByPath(String path);
+    @EntityGraph(value = "Study.withTagsAndZones", type = EntityGraph.EntityGraphType.LOAD)
+    Optional<Study> findStudyWithTagsAndZonesById(Long id);
 
-    @EntityGraph(value = "Study.withManagersAndMembers", type = EntityGraph.EntityGraphType.LOAD)
-    Optional<Study> findStudyWithManagersAndMembersByPath(String path);
+    /**
+     * 스터디 행을 잠그고 조회합니다. 같은 스터디의 파생 데이터(카드)를 다시 만드는 작업을 순서대로 처리할 때 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Study s where s.id = :id")
+    Optional<Study> findForUpdateById(@Param("id") Long id);
+
+    @Query("select s.id from Study s where s.published = true order by s.id")
+    List<Long> findPublishedStudyIds();
 
     List<Study> findTop9ByPublishedAndClosedOrderByPublishedDateTimeDesc(boolean published, boolean closed);
 
     List<Study> findFirst5ByManagersContainingAndClosedOrderByPublishedDateTimeDesc(Account account, boolean closed);
 
     List<Study> findFirst5ByMembersContainingAndClosedOrderByPublishedDateTimeDesc(Account account, boolean closed);
+
+    @Query("select s.id from Study s where :account member of s.managers or :account member of s.members")
+    List<Long> findIdsByManagerOrMember(@Param("account") Account account);
+
+    @Query("select s.id from Study s where s.path = :path")
+    Optional<Long> findIdByPath(@Param("path") String path);
+
+    /**
+     * 스터디 가입 여부를 join 테이블의 기본 키(study_id, members_id)로 확인합니다. (0 또는 1)
+     */
+    @Query(value = "select count(*) from study_members where study_id = :studyId and members_id = :accountId"
+            , nativeQuery = true)
+    int countMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Query(value = "select count(*) from study_managers where study_id = :studyId and managers_id = :accountId"
+            , nativeQuery = true)
+    int countManager(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    /**
+     * 멤버 컬렉션을 읽지 않고 join 테이블에 한 행만 추가합니다.
+     * 이미 가입한 계정이면 추가하지 않습니다.
+     * @return 추가한 행 수 (0 또는 1)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "insert into study_members (study_id, members_id) select :studyId, :accountId " +
+            "where not exists (select 1 from study_members where study_id = :studyId and members_id = :accountId)"
+            , nativeQuery = true)
+    int insertMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from study_members where study_id = :studyId and members_id = :accountId", nativeQuery = true)
+    int deleteMember(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from study_managers where study_id = :studyId and managers_id = :accountId", nativeQuery = true)
+    int deleteManager(@Param("studyId") Long studyId, @Param("accountId") Long accountId);
+
+    /**
+     * 멤버 수를 DB에서 더해서 동시에 가입/탈퇴 해도 수가 유실되지 않도록 합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Study s set s.memberCount = s.memberCount + :delta where s.id = :studyId")
+    int addMemberCount(@Param("studyId") Long studyId, @Param("delta") int delta);
+
+    /**
+     * 계정 ID가 afterAccountId 보다 큰 멤버를 계정 ID 순으로 조회합니다. (keyset 페이징)
+     */
+    @Query("select m from Study s join s.members m where s.id = :studyId and m.id > :afterAccountId order by m.id")
+    List<Account> findMembers(@Param("studyId") Long studyId, @Param("afterAccountId") Long afterAccountId
+            , Pageable pageable);
 }
@@ -12,5 +12,7 @@ public interface StudyRepositoryExtension {
 
     Page<Study> findByKeyword(String keyword, Pageable pageable);
 
-    List<Study> findByTagsAndZones(Set<Tag> tags, Set<Zone> zones);
+    List<Study> findWithTagsAndZonesByIds(List<Long> studyIds);
+
+    List<StudyFeed> findFeedsByTagsAndZones(Long accountId, Set<Tag> tags, Set<Zone> zones, long limit);
 }
@@ -1,21 +1,24 @@
 package studyolle.study.domain;
 
-import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.transaction.annotation.Transactional;
-import studyolle.account.domain.Account;
-import studyolle.account.domain.QAccount;
 import studyolle.tag.domain.QTag;
 import studyolle.tag.domain.Tag;
 import studyolle.zone.domain.QZone;
 import studyolle.zone.domain.Zone;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Transactional(readOnly = true)
 public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport implements StudyRepositoryExtension {
@@ -24,34 +27,88 @@ public class StudyRepositoryExtensionImpl extends QuerydslRepositorySupport impl
         super(Study.class);
     }
 
+    /**
+     * 키워드에 맞는 스터디를 두 단계로 조회합니다.
+     * 1. 컬렉션 fetch join 없이 스터디 ID만 정렬, 페이징하여 조회 (카운트 쿼리는 별도)
+     * 2. 해당 페이지의 스터디 ID로 관심분야, 활동지역을 함께 조회
+     * 컬렉션 fetch join과 페이징을 함께 사용하면 모든 결과를 메모리에 올린 뒤 페이징하게 되므로(HHH000104) 분리합니다.
+     * @param keyword
+     * @param pageable
+     * @return
+     */
     @Override
     public Page<Study> findByKeyword(String keyword, Pageable pageable) {
         QStudy study = QStudy.study;
-        JPQLQuery<Study> query = from(study)
+        JPQLQuery<Long> idQuery = from(study)
+                .select(study.id)
+                .where(keywordCondition(study, keyword == null ? "" : keyword));
+
+        long total = idQuery.fetchCount();
+        if(total == 0) {
+            return new PageImpl<>(Collections.emptyList(), pageable, total);
+        }
+
+        List<Long> studyIds = getQuerydsl().applyPagination(pageable, idQuery).fetch();
+        return new PageImpl<>(this.findWithTagsAndZonesByIds(studyIds), pageable, total);
+    }
+
+    private Predicate keywordCondition(QStudy study, String keyword) {
+        return study.published.isTrue()
+                .and(study.title.containsIgnoreCase(keyword)
+                        .or(study.tags.any().title.containsIgnoreCase(keyword))
+                        .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword)));
+    }
+
+    /**
+     * ID 목록의 스터디를 관심분야, 활동지역과 함께 조회하여 ID 목록의 순서대로 반환합니다.
+     * @param studyIds
+     * @return
+     */
+    @Override
+    public List<Study> findWithTagsAndZonesByIds(List<Long> studyIds) {
+        if(studyIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        QStudy study = QStudy.study;
+        Map<Long, Study> studies = from(study)
                 .leftJoin(study.tags, QTag.tag).fetchJoin()
                 .leftJoin(study.zones, QZone.zone).fetchJoin()
-                .leftJoin(study.members, QAccount.account).fetchJoin()
-                .where(study.published.isTrue()
-                        .and(study.title.containsIgnoreCase(keyword))
-                        .or(study.tags.any().title.containsIgnoreCase(keyword))
-                        .or(study.zones.any().localNameOfCity.containsIgnoreCase(keyword))
-                ).distinct();
+                .where(study.id.in(studyIds))
+                .distinct()
+                .fetch().stream()
+                .collect(Collectors.toMap(Study::getId, Function.identity()));
 
-        JPQLQuery<Study> pageableQuery = getQuerydsl().applyPagination(pageable, query);
-        QueryResults<Study> fetchResults = pageableQuery.fetchResults();
-        return new PageImpl<>(fetchResults.getResults(), pageable, fetchResults.getTotal());
+        return studyIds.stream()
+                .map(studies::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
-
+    /**
+     * 관심분야와 활동지역이 겹치는 공개된 스터디를 최근 공개 순으로 limit 개 조회하여 계정의 피드 행으로 반환합니다.
+     * @param accountId 피드를 가질 계정 ID
+     * @param tags 계정의 관심분야
+     * @param zones 계정의 활동지역
+     * @param limit
+     * @return
+     */
     @Override
-    public List<Study> findByTagsAndZones(Set<Tag> tags, Set<Zone> zones) {
+    public List<StudyFeed> findFeedsByTagsAndZones(Long accountId, Set<Tag> tags, Set<Zone> zones, long limit) {
+        if(tags.isEmpty() || zones.isEmpty()) {
+            return Collections.emptyList();
+        }
+
         QStudy study = QStudy.study;
-        JPQLQuery<Study> query = from(study)
+        return from(study)
+                .select(study.id, study.publishedDateTime)
                 .where(study.published.isTrue()
                         .and(study.tags.any().in(tags))
-                        .and(study.zones.any().in(zones))
-                ).distinct();
-
-        return query.fetch();
+                        .and(study.zones.any().in(zones)))
+                .orderBy(study.publishedDateTime.desc(), study.id.desc())
+                .limit(limit)
+                .fetch().stream()
+                .map(tuple -> new StudyFeed(accountId, tuple.get(study.id), tuple.get(study.publishedDateTime)))
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,20 @@
+package studyolle.study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import studyolle.account.domain.Account;
+
+import java.util.List;
+
+/**
+ * 스터디 멤버 목록의 한 페이지
+ * next는 다음 페이지를 조회할 때 after로 넘기는 계정 ID 이며, 마지막 페이지면 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StudyMemberPage {
+
+    private List<Account> members;
+
+    private Long next;
+}
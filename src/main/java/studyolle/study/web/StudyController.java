@@ -62,23 +62,24 @@ public class StudyController {
     }
 
     @GetMapping("/study/{path}/members")
-    public String viewStudyMembers(@CurrentUserAccount Account account, @PathVariable String path, Model model) {
-        model.addAttribute(account);
-        model.addAttribute("study", this.studyService.findByPath(path));
+    public String viewStudyMembers(@CurrentUserAccount Account account, @PathVariable String path
+            , @RequestParam(required = false) Long after, Model model) {
+        Study study = this.studyService.findByPath(path);
+        model.addAttribute("account", account);
+        model.addAttribute("study", study);
+        model.addAttribute("memberPage", this.studyService.findMembers(study, after));
         return "study/members";
     }
 
     @GetMapping("/study/{path}/join")
-    public String joinStudy(@CurrentUserAccount Account account, @PathVariable String path, Model model) {
-        model.addAttribute(account);
-        model.addAttribute("study", this.studyService.joinStudy(account, path));
+    public String joinStudy(@CurrentUserAccount Account account, @PathVariable String path) {
+        this.studyService.joinStudy(account, path);
         return "redirect:/study/" + URLEncoder.encode(path, StandardCharsets.UTF_8);
     }
 
     @GetMapping("/study/{path}/leave")
-    public String leaveStudy(@CurrentUserAccount Account account, @PathVariable String path, Model model) {
-        model.addAttribute(account);
-        model.addAttribute("study", this.studyService.leaveStudy(account, path));
+    public String leaveStudy(@CurrentUserAccount Account account, @PathVariable String path) {
+        this.studyService.leaveStudy(account, path);
         return "redirect:/study/" + URLEncoder.encode(path, StandardCharsets.UTF_8);
     }
 
@@ -1,7 +1,5 @@
 package studyolle.study.web;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -9,6 +7,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import studyolle.app.WhitelistController;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.security.CurrentUserAccount;
 import studyolle.account.dto.TagForm;
@@ -24,9 +23,7 @@ import studyolle.zone.domain.Zone;
 import javax.validation.Valid;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/study/{path}/settings")
@@ -36,7 +33,6 @@ public class StudySettingController {
     private final StudyService studyService;
     private final TagService tagService;
     private final ZoneService zoneService;
-    private final ObjectMapper objectMapper;
 
     /**
      * 스터디 소개 설정 화면 요청
@@ -148,14 +144,13 @@ public class StudySettingController {
 
     @GetMapping("/tags")
     public String studyTagSettingForm(@CurrentUserAccount Account account, @PathVariable String path
-            , Model model) throws JsonProcessingException {
+            , Model model) {
         model.addAttribute("account", account);
         Study study = this.studyService.findByPath(path);
         model.addAttribute("study", study);
         model.addAttribute("tags", study.getTagTitles());
 
-        List<String> allTags = this.tagService.findAllTags().stream().map(Tag::getTitle).collect(Collectors.toList());
-        model.addAttribute("whitelist", this.objectMapper.writeValueAsString(allTags));
+        model.addAttribute("whitelistUrl", WhitelistController.URL_WHITELIST_TAGS);
         return "study/settings/tags";
     }
 
@@ -179,16 +174,14 @@ public class StudySettingController {
 
     @GetMapping("/zones")
     public String zonesSettingForm(@CurrentUserAccount Account account, @PathVariable String path
-            , Model model) throws JsonProcessingException {
+            , Model model) {
         model.addAttribute("account", account);
 
         Study study = this.studyService.findByPath(path);
         model.addAttribute("study", study);
         model.addAttribute("zones", study.getZones().stream().map(Zone::toString));
 
-        List<String> allZones = this.zoneService.findAllZones().stream().map(Zone::toString)
-                .collect(Collectors.toList());
-        model.addAttribute("whitelist", this.objectMapper.writeValueAsString(allZones));
+        model.addAttribute("whitelistUrl", WhitelistController.URL_WHITELIST_ZONES);
         return "study/settings/zones";
     }
 
@@ -1,14 +1,19 @@
 package studyolle.tag.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import studyolle.account.dto.TagForm;
+import studyolle.common.whitelist.Whitelist;
 import studyolle.tag.domain.Tag;
 import studyolle.tag.domain.TagRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Transactional
@@ -16,10 +21,24 @@ import java.util.Optional;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final ObjectMapper objectMapper;
 
+    private final AtomicLong whitelistVersion = new AtomicLong();
+    private volatile Whitelist whitelist;
+
+    /**
+     * 같은 이름의 태그가 없으면 새로 저장합니다.
+     * 새 태그가 저장되면 커밋 이후 태그 whitelist 캐시를 비웁니다.
+     * @param tagForm
+     * @return
+     */
     public Tag addTag(TagForm tagForm) {
         return this.tagRepository.findByTitle(tagForm.getTagTitle())
-                .orElseGet(() -> this.tagRepository.save(Tag.builder().title(tagForm.getTagTitle()).build()));
+                .orElseGet(() -> {
+                    Tag tag = this.tagRepository.save(Tag.builder().title(tagForm.getTagTitle()).build());
+                    this.invalidateWhitelistAfterCommit();
+                    return tag;
+                });
     }
 
     public Optional<Tag> findByTitle(TagForm tagForm) {
@@ -29,4 +48,45 @@ public class TagService {
     public List<Tag> findAllTags() {
         return this.tagRepository.findAll();
     }
+
+    /**
+     * 모든 태그 이름의 whitelist를 반환합니다.
+     * 캐시가 비어있는 경우에만 DB에서 조회하며, 조회 중 캐시가 무효화 된 경우 결과를 캐시하지 않습니다.
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Whitelist getWhitelist() {
+        Whitelist cached = this.whitelist;
+        if(cached != null) {
+            return cached;
+        }
+
+        long version = this.whitelistVersion.get();
+        Whitelist loaded = Whitelist.of(version, this.tagRepository.findAllTitles(), this.objectMapper);
+        synchronized (this) {
+            if(this.whitelistVersion.get() == version) {
+                this.whitelist = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidateWhitelistAfterCommit() {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.invalidateWhitelist();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                invalidateWhitelist();
+            }
+        });
+    }
+
+    private synchronized void invalidateWhitelist() {
+        this.whitelistVersion.incrementAndGet();
+        this.whitelist = null;
+    }
 }
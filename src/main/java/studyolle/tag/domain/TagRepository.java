@@ -1,11 +1,17 @@
 package studyolle.tag.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Transactional
 public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByTitle(String tagTitle);
+
+    @Transactional(readOnly = true)
+    @Query("select t.title from Tag t order by t.title")
+    List<String> findAllTitles();
 }
@@ -1,10 +1,12 @@
 package studyolle.zone.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import studyolle.account.dto.ZoneForm;
+import studyolle.common.whitelist.Whitelist;
 import studyolle.zone.domain.Zone;
 import studyolle.zone.domain.ZoneRepository;
 
@@ -25,6 +27,9 @@ public class ZoneService {
     private static final String ZONE_DATA_FILE_PATH = "list_of_city_in_korea.csv";
 
     private final ZoneRepository zoneRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Whitelist whitelist;
 
     /**
      * Zone에 데이터가 없는 경우 초기 데이터를 넣어줍니다
@@ -60,6 +65,21 @@ public class ZoneService {
         return this.zoneRepository.findAll();
     }
 
+    /**
+     * 모든 지역 이름의 whitelist를 반환합니다.
+     * 지역 데이터는 초기화 이후 변경되지 않으므로 처음 조회한 값을 계속 사용합니다.
+     * @return
+     */
+    public Whitelist getWhitelist() {
+        Whitelist cached = this.whitelist;
+        if(cached == null) {
+            cached = Whitelist.of(1L, this.findAllZones().stream().map(Zone::toString).collect(Collectors.toList())
+                    , this.objectMapper);
+            this.whitelist = cached;
+        }
+        return cached;
+    }
+
     public Optional<Zone> findByZoneForm(ZoneForm zoneForm) {
         Zone zone = zoneForm.toEntity();
         return this.zoneRepository.findByCityAndProvince(zone.getCity(), zone.getProvince());
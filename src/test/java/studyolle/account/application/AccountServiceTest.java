@@ -0,0 +1,76 @@
+package studyolle.account.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.account.domain.security.UserAccount;
+import studyolle.account.dto.SignUpForm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class AccountServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("이메일 또는 닉네임으로 계정 조회")
+    void loadUserByUsername() {
+        // given
+        Account account = 계정("principal");
+
+        // when
+        UserAccount byEmail = (UserAccount) this.accountService.loadUserByUsername("principal@email.com");
+        UserAccount byNickname = (UserAccount) this.accountService.loadUserByUsername("principal");
+
+        // then
+        assertThat(byEmail.getAccountId()).isEqualTo(account.getId());
+        assertThat(byNickname.getAccountId()).isEqualTo(account.getId());
+        assertThat(byNickname.getEmail()).isEqualTo("principal@email.com");
+        assertThrows(UsernameNotFoundException.class, () -> this.accountService.loadUserByUsername("principal-none"));
+    }
+
+    @Test
+    @DisplayName("캐시 된 계정은 인증 후 비밀번호가 지워져도 유지되고, 계정 정보가 바뀌면 다시 조회")
+    void loadUserByUsername_cache() {
+        // given
+        Account account = 계정("principal-cache");
+        UserAccount userAccount = (UserAccount) this.accountService.loadUserByUsername("principal-cache");
+        userAccount.eraseCredentials();
+        String password = userAccount.getPassword();
+
+        // when - DB만 바뀐 경우 캐시 된 계정을 사용
+        Account persistAccount = this.accountRepository.findById(account.getId()).get();
+        persistAccount.setPassword("changed password");
+        this.accountRepository.save(persistAccount);
+        UserAccount cached = (UserAccount) this.accountService.loadUserByUsername("principal-cache");
+
+        // then
+        assertThat(password).isNull();
+        assertThat(cached.getPassword()).isEqualTo(account.getPassword());
+
+        // when - 서비스로 비밀번호를 바꾸면 캐시를 지움
+        this.accountService.updatePassword(persistAccount, "87654321");
+        UserAccount reloaded = (UserAccount) this.accountService.loadUserByUsername("principal-cache");
+
+        // then
+        assertThat(reloaded.getPassword()).isNotEqualTo(account.getPassword()).isNotEqualTo("changed password");
+    }
+
+    private Account 계정(String nickname) {
+        SignUpForm signUpForm = new SignUpForm();
+        signUpForm.setNickname(nickname);
+        signUpForm.setEmail(nickname + "@email.com");
+        signUpForm.setPassword("12345678");
+        return this.accountService.save(signUpForm);
+    }
+}
@@ -204,7 +204,7 @@ class SettingsControllerTest {
         this.mockMvc.perform(get(SettingsController.URL_SETTINGS_TAGS))
                 .andExpect(status().isOk())
                 .andExpect(view().name(SettingsController.VIEW_SETTINGS_TAGS))
-                .andExpect(model().attributeExists("account", "tags", "whitelist"));
+                .andExpect(model().attributeExists("account", "tags", "whitelistUrl"));
     }
 
     @Test
@@ -286,7 +286,7 @@ class SettingsControllerTest {
         this.mockMvc.perform(get(SettingsController.URL_SETTINGS_ZONES))
                 .andExpect(status().isOk())
                 .andExpect(view().name(SettingsController.VIEW_SETTINGS_ZONES))
-                .andExpect(model().attributeExists("account", "zones", "whitelist"));
+                .andExpect(model().attributeExists("account", "zones", "whitelistUrl"));
     }
 
     @Test
@@ -1,5 +1,6 @@
 package studyolle.account.web.account;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -8,17 +9,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.web.servlet.MockMvc;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.AccountRepository;
 
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.timeout;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.unauthenticated;
@@ -39,6 +43,11 @@ class AccountControllerTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @BeforeEach
+    void setUp() {
+        given(this.javaMailSender.createMimeMessage()).willAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
     @Test
     @DisplayName("회원가입 화면 요청 테스트")
     void signUpForm() throws Exception {
@@ -76,7 +85,7 @@ class AccountControllerTest {
     }
 
     private void 회원가입_인증_메일_전송_확인() {
-        then(javaMailSender).should().send(any(SimpleMailMessage.class));
+        then(javaMailSender).should(timeout(3000)).send((MimeMessage[]) any());
     }
 
     private void 회원가입_비밀번호_인코딩_확인(String email) {
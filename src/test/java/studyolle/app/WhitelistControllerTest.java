@@ -0,0 +1,69 @@
+package studyolle.app;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import studyolle.WithAccount;
+import studyolle.account.dto.TagForm;
+import studyolle.tag.application.TagService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class WhitelistControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TagService tagService;
+
+    @Test
+    @WithAccount("tagWhitelist")
+    @DisplayName("태그 whitelist 조회 및 ETag 재검증 성공")
+    void tagWhitelist() throws Exception {
+        // given
+        String etag = this.mockMvc.perform(get(WhitelistController.URL_WHITELIST_TAGS))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when - then
+        this.mockMvc.perform(get(WhitelistController.URL_WHITELIST_TAGS)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // when
+        TagForm tagForm = new TagForm();
+        tagForm.setTagTitle("whitelist-new-tag");
+        this.tagService.addTag(tagForm);
+
+        // then
+        String changedEtag = this.mockMvc.perform(get(WhitelistController.URL_WHITELIST_TAGS)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("whitelist-new-tag")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    @WithAccount("zoneWhitelist")
+    @DisplayName("지역 whitelist 조회 성공")
+    void zoneWhitelist() throws Exception {
+        // when - then
+        this.mockMvc.perform(get(WhitelistController.URL_WHITELIST_ZONES))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(containsString("/")));
+    }
+}
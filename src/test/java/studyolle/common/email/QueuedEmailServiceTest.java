@@ -0,0 +1,79 @@
+package studyolle.common.email;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.timeout;
+
+@SpringBootTest(properties = {"app.mail-max-attempts=2", "app.mail-retry-initial-backoff-millis=10"})
+class QueuedEmailServiceTest {
+
+    @MockBean
+    private JavaMailSender javaMailSender;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailDeadLetterRepository emailDeadLetterRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(this.javaMailSender.createMimeMessage()).willAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    @DisplayName("메일 전송 요청은 큐에 넣고 워커가 묶어서 전송")
+    void sendEmail() {
+        // when
+        for(int i = 0; i < 3; i++) {
+            this.emailService.sendEmail(이메일("queued" + i + "@email.com"));
+        }
+
+        // then
+        assertThat(this.emailService).isInstanceOf(QueuedEmailService.class);
+        then(this.javaMailSender).should(timeout(3000).atLeastOnce()).send((MimeMessage[]) any());
+        assertThat(this.emailDeadLetterRepository.countByRecipient("queued0@email.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 전송에 실패한 메일은 dead letter로 저장")
+    void sendEmail_dead_letter() throws InterruptedException {
+        // given
+        String recipient = "dead-letter@email.com";
+        willThrow(new MailSendException("smtp down")).given(this.javaMailSender).send((MimeMessage[]) any());
+
+        // when
+        this.emailService.sendEmail(이메일(recipient));
+
+        // then
+        for(int i = 0; i < 30 && this.emailDeadLetterRepository.countByRecipient(recipient) == 0; i++) {
+            Thread.sleep(100);
+        }
+        then(this.javaMailSender).should(atLeastOnce()).send((MimeMessage[]) any());
+        assertThat(this.emailDeadLetterRepository.countByRecipient(recipient)).isEqualTo(1);
+    }
+
+    private EmailMessage 이메일(String to) {
+        return EmailMessage.builder()
+                .to(to)
+                .subject("테스트 메일")
+                .message("<p>테스트</p>")
+                .build();
+    }
+}
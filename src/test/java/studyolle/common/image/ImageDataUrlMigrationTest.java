@@ -0,0 +1,104 @@
+package studyolle.common.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ImageDataUrlMigrationTest {
+
+    @Autowired
+    private ImageDataUrlMigration imageDataUrlMigration;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void afterEach() {
+        this.jdbcTemplate.execute("alter table account drop column if exists profile_image");
+        this.jdbcTemplate.execute("alter table study drop column if exists image");
+    }
+
+    @Test
+    @DisplayName("옛 컬럼의 data URL 이미지를 ImageStore로 옮기고 키를 채우며, 옮길 수 없는 이미지는 그대로 둠")
+    void migrate() throws Exception {
+        // given - 이미지를 @Lob 컬럼에 저장하던 때의 계정, 스터디
+        this.jdbcTemplate.execute("alter table account add column profile_image clob");
+        this.jdbcTemplate.execute("alter table study add column image clob");
+        String dataUrl = 이미지();
+        Account account = 계정("image-migration");
+        Account invalid = 계정("image-migration-invalid");
+        Study study = this.studyRepository.save(Study.builder()
+                .path("image-migration")
+                .title("image-migration")
+                .shortDescription("image-migration")
+                .fullDescription("image-migration")
+                .build());
+        this.jdbcTemplate.update("update account set profile_image = ? where id = ?", dataUrl, account.getId());
+        this.jdbcTemplate.update("update account set profile_image = ? where id = ?"
+                , "data:text/plain;base64,AAAA", invalid.getId());
+        this.jdbcTemplate.update("update study set image = ? where id = ?", dataUrl, study.getId());
+
+        // when
+        this.imageDataUrlMigration.migrate(this.jdbcTemplate);
+
+        // then
+        String key = this.accountRepository.findById(account.getId()).get().getProfileImageKey();
+        assertThat(key).isNotNull();
+        assertThat(this.imageStore.find(key)).isPresent();
+        assertThat(this.studyRepository.findById(study.getId()).get().getImageKey()).isEqualTo(key);
+        assertThat(this.accountRepository.findById(invalid.getId()).get().getProfileImageKey()).isNull();
+        assertThat(this.jdbcTemplate.queryForObject("select profile_image from account where id = ?"
+                , String.class, invalid.getId())).isEqualTo("data:text/plain;base64,AAAA");
+    }
+
+    @Test
+    @DisplayName("옛 컬럼이 없는 DB에서는 아무것도 하지 않음")
+    void migrate_without_old_columns() {
+        // given
+        Account account = 계정("image-migration-new");
+
+        // when
+        this.imageDataUrlMigration.migrate(this.jdbcTemplate);
+
+        // then
+        assertThat(this.accountRepository.findById(account.getId()).get().getProfileImageKey()).isNull();
+    }
+
+    private String 이미지() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB), "png", output);
+        return "data:image/png;base64," + Base64.getEncoder().encodeToString(output.toByteArray());
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
@@ -0,0 +1,88 @@
+package studyolle.common.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ImageVariantGeneratorTest {
+
+    @Autowired
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @Autowired
+    private ImageStore imageStore;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("원본 이미지를 가운데 기준으로 잘라 variant 크기의 JPEG으로 저장")
+    void createVariants() throws Exception {
+        // given
+        String key = 이미지(2000, 1000);
+
+        // when
+        this.imageVariantGenerator.createVariants(key, ImageVariant.values());
+
+        // then
+        for(ImageVariant variant : ImageVariant.values()) {
+            String variantKey = variant.keyOf(key);
+            assertThat(variantKey).endsWith("-" + variant.name().toLowerCase() + ".jpg");
+            BufferedImage image = ImageIO.read(this.imageStore.find(variantKey).get().toFile());
+            assertThat(image.getWidth()).isEqualTo(variant.getWidth());
+            assertThat(image.getHeight()).isEqualTo(variant.getHeight());
+        }
+    }
+
+    @Test
+    @DisplayName("아직 없는 썸네일 요청 시 원본을 캐시하지 않도록 응답하고, 작업 풀에서 만든 뒤에는 썸네일 응답")
+    void image_variant_fallback() throws Exception {
+        // given
+        String key = 이미지(300, 300);
+        String url = ImageVariant.AVATAR.urlOf(key);
+
+        // when - then
+        this.mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        Optional<Path> variant = Optional.empty();
+        for(int i = 0; i < 50 && variant.isEmpty(); i++) {
+            Thread.sleep(100);
+            variant = this.imageStore.find(ImageVariant.AVATAR.keyOf(key));
+        }
+        assertThat(variant).isPresent();
+        this.mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_JPEG));
+    }
+
+    /**
+     * 테스트를 다시 실행해도 이전에 만든 썸네일이 남아있지 않도록 매번 다른 이미지를 저장합니다.
+     */
+    private String 이미지(int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, (int) System.nanoTime());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return this.imageStore.store(bytes.toByteArray(), "png");
+    }
+}
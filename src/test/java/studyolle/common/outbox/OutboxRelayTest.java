@@ -0,0 +1,173 @@
+package studyolle.common.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이 컨텍스트의 리스너 호출 수를 확인하므로, 다른 테스트 컨텍스트의 OutboxRelay(다른 노드)가
+ * 메시지를 가져가지 않도록 별도의 DB를 사용합니다.
+ */
+@SpringBootTest(properties = {"app.outbox-poll-delay=3600000", "app.outbox-max-attempts=3"
+        , "app.outbox-initial-backoff-millis=300", "app.outbox-lease-millis=500"
+        , "spring.datasource.generate-unique-name=true"})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private TestEventListener testEventListener;
+
+    @Test
+    @DisplayName("리스너가 성공하면 메시지 삭제")
+    void relay() {
+        // given
+        OutboxMessage message = 메시지("relay-success", 0);
+
+        // when
+        this.outboxRelay.relay();
+
+        // then
+        assertThat(this.testEventListener.calls("relay-success")).isEqualTo(1);
+        assertThat(this.outboxMessageRepository.findById(message.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리스너가 실패하면 대기 시간이 지난 후에 다시 처리")
+    void relay_retry_after_backoff() throws InterruptedException {
+        // given
+        OutboxMessage message = 메시지("relay-retry", 1);
+
+        // when
+        this.outboxRelay.relay();
+
+        // then - 실패를 기록하고 대기 시간 동안은 다시 처리하지 않음
+        OutboxMessage failed = this.outboxMessageRepository.findById(message.getId()).get();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("relay-retry");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        this.outboxRelay.relay();
+        assertThat(this.testEventListener.calls("relay-retry")).isEqualTo(1);
+
+        // when - 대기 시간이 지난 후
+        Thread.sleep(400);
+        this.outboxRelay.relay();
+
+        // then
+        assertThat(this.testEventListener.calls("relay-retry")).isEqualTo(2);
+        assertThat(this.outboxMessageRepository.findById(message.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수 만큼 실패하면 FAILED 상태로 남기고 더 이상 처리하지 않음")
+    void relay_give_up() throws InterruptedException {
+        // given
+        OutboxMessage message = 메시지("relay-give-up", Integer.MAX_VALUE);
+
+        // when - 대기 시간은 300ms, 600ms로 늘어남
+        for(int i = 0; i < 20 && this.outboxMessageRepository.findById(message.getId()).get()
+                .getStatus() == OutboxStatus.PENDING; i++) {
+            this.outboxRelay.relay();
+            Thread.sleep(100);
+        }
+        Thread.sleep(1000);
+        this.outboxRelay.relay();
+
+        // then
+        OutboxMessage failed = this.outboxMessageRepository.findById(message.getId()).get();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(3);
+        assertThat(this.testEventListener.calls("relay-give-up")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("한 노드가 가져간 메시지는 발행 제한 시간 동안 다른 노드가 가져가지 않고, 가져간 노드만 삭제")
+    void claim() throws InterruptedException {
+        // given
+        OutboxMessage message = 메시지("relay-claim", 0);
+
+        // when - then
+        assertThat(this.outboxRelay.claim("node-1")).contains(message);
+        assertThat(this.outboxRelay.claim("node-2")).doesNotContain(message);
+
+        // when - 발행 제한 시간이 지나면 다른 노드가 다시 가져감
+        Thread.sleep(600);
+        assertThat(this.outboxRelay.claim("node-2")).contains(message);
+        this.outboxRelay.deliver(message, "node-1");
+
+        // then - 제한 시간이 지난 노드의 발행은 롤백되고, 실패로 기록하지 않음
+        OutboxMessage claimed = this.outboxMessageRepository.findById(message.getId()).get();
+        assertThat(claimed.getClaimToken()).isEqualTo("node-2");
+        assertThat(claimed.getAttempts()).isZero();
+
+        // when
+        this.outboxRelay.deliver(message, "node-2");
+
+        // then
+        assertThat(this.outboxMessageRepository.findById(message.getId())).isEmpty();
+        assertThat(this.testEventListener.calls("relay-claim")).isEqualTo(2);
+    }
+
+    private OutboxMessage 메시지(String name, int failures) {
+        return this.outboxMessageRepository.save(OutboxMessage.create(TestEvent.class.getName()
+                , "{\"name\":\"" + name + "\",\"failures\":" + failures + "}"));
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class TestEvent {
+
+        private String name;
+
+        private int failures;
+    }
+
+    /**
+     * 이벤트마다 처리 횟수를 세고, 처음 failures 번은 실패합니다.
+     */
+    static class TestEventListener {
+
+        private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+        @EventListener
+        public void handle(TestEvent testEvent) {
+            int call = this.calls.computeIfAbsent(testEvent.getName(), name -> new AtomicInteger()).incrementAndGet();
+            if(call <= testEvent.getFailures()) {
+                throw new IllegalStateException(testEvent.getName() + " failed");
+            }
+        }
+
+        int calls(String name) {
+            return this.calls.getOrDefault(name, new AtomicInteger()).get();
+        }
+    }
+
+    @TestConfiguration
+    static class TestEventListenerConfig {
+
+        @Bean
+        public TestEventListener testEventListener() {
+            return new TestEventListener();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package studyolle.event.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.event.domain.Event;
+import studyolle.event.domain.EventRepository;
+import studyolle.event.domain.EventType;
+import studyolle.event.dto.CalendarEvent;
+import studyolle.event.dto.CalendarPage;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class EventCalendarServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2030, 4, 1, 0, 0);
+
+    @Autowired
+    private EventCalendarService eventCalendarService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("내 스터디의 기간 내 모임만 시작 시간 순으로 keyset 페이징")
+    void findEvents() {
+        // given
+        Account account = 계정("calendar");
+        Study study = 스터디("calendar", account);
+        Study otherStudy = 스터디("calendar-other", 계정("calendar-other"));
+        List<Long> expected = new ArrayList<>();
+        for(int i = 0; i < 5; i++) {
+            // 같은 시작 시간의 모임이 있어도 ID로 이어서 읽는지 확인
+            expected.add(모임(study, FROM.plusDays(1 + i / 2)).getId());
+        }
+        모임(study, FROM.minusDays(1));
+        모임(study, TO);
+        모임(otherStudy, FROM.plusDays(1));
+
+        // when
+        CalendarPage first = this.eventCalendarService.findEvents(account, FROM, TO, null, 2);
+        CalendarPage second = this.eventCalendarService.findEvents(account, FROM, TO, first.getNext(), 2);
+        CalendarPage last = this.eventCalendarService.findEvents(account, FROM, TO, second.getNext(), 2);
+
+        // then
+        List<Long> ids = new ArrayList<>();
+        for(CalendarPage page : List.of(first, second, last)) {
+            ids.addAll(page.getEvents().stream().map(CalendarEvent::getId).collect(Collectors.toList()));
+        }
+        assertThat(ids).containsExactlyElementsOf(expected);
+        assertThat(first.getNext()).isNotNull();
+        assertThat(second.getNext()).isNotNull();
+        assertThat(last.getNext()).isNull();
+        assertThat(first.getEvents().get(0).getStudyPath()).isEqualTo("calendar");
+    }
+
+    @Test
+    @DisplayName("모든 페이지를 이어서 조회하되 최대 모임 수 까지만 포함")
+    void findAllEvents() {
+        // given
+        Account account = 계정("calendar-all");
+        Study study = 스터디("calendar-all", account);
+        List<Long> expected = new ArrayList<>();
+        for(int i = 0; i < 5; i++) {
+            expected.add(모임(study, FROM.plusDays(1 + i)).getId());
+        }
+
+        // when
+        List<CalendarEvent> all = this.eventCalendarService.findAllEvents(account, FROM, TO, 2, 10);
+        List<CalendarEvent> limited = this.eventCalendarService.findAllEvents(account, FROM, TO, 2, 3);
+
+        // then
+        assertThat(all.stream().map(CalendarEvent::getId)).containsExactlyElementsOf(expected);
+        assertThat(limited.stream().map(CalendarEvent::getId)).containsExactlyElementsOf(expected.subList(0, 3));
+    }
+
+    @Test
+    @DisplayName("조회 기간, 페이지 크기, cursor가 잘못된 경우 실패")
+    void findEvents_fail_invalid_parameter() {
+        Account account = 계정("calendar-invalid");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> this.eventCalendarService.findEvents(account, TO, FROM, null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> this.eventCalendarService.findEvents(account, FROM, FROM.plusYears(2), null, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> this.eventCalendarService.findEvents(account, FROM, TO, null, EventCalendarService.MAX_PAGE_SIZE + 1));
+        스터디("calendar-invalid", account);
+        assertThrows(IllegalArgumentException.class,
+                () -> this.eventCalendarService.findEvents(account, FROM, TO, "cursor", 10));
+    }
+
+    private Study 스터디(String path, Account manager) {
+        return this.studyRepository.save(Study.builder()
+                .path(path)
+                .title(path)
+                .shortDescription(path)
+                .fullDescription(path)
+                .build()
+                .addCreateMember(manager));
+    }
+
+    private Event 모임(Study study, LocalDateTime startDateTime) {
+        Event event = Event.builder()
+                .title(study.getPath())
+                .eventType(EventType.FCFS)
+                .limitOfEnrollments(2)
+                .endEnrollmentDateTime(startDateTime.minusDays(1))
+                .startDateTime(startDateTime)
+                .endDateTime(startDateTime.plusHours(2))
+                .build();
+        event.init(study, study.getManagers().iterator().next());
+        return this.eventRepository.save(event);
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
@@ -0,0 +1,208 @@
+package studyolle.event.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.enrollment.domain.Enrollment;
+import studyolle.enrollment.domain.EnrollmentRepository;
+import studyolle.event.domain.Event;
+import studyolle.event.domain.EventRepository;
+import studyolle.event.domain.EventType;
+import studyolle.notification.domain.NotificationRepository;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class EventSchedulerTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private EventScheduler eventScheduler;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EventScheduleFlagMigration eventScheduleFlagMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("마감 시간이 지난 모임은 참가 신청을 마감하고, 곧 시작하는 모임은 참가자에게 리마인더 전송")
+    void run() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Event closing = 모임("scheduler-closing", now.minusMinutes(1), now.plusDays(10));
+        Event upcoming = 모임("scheduler-upcoming", now.minusMinutes(1), now.plusHours(1));
+        Event later = 모임("scheduler-later", now.plusDays(5), now.plusDays(10));
+        Account member = this.accountRepository.save(Account.builder()
+                .nickname("scheduler-member")
+                .email("scheduler-member@email.com")
+                .password("12345678")
+                .studyEnrollmentResultByWeb(true)
+                .build());
+        this.enrollmentRepository.save(Enrollment.builder()
+                .event(upcoming)
+                .account(member)
+                .accepted(true)
+                .enrolledAt(now.minusDays(1))
+                .build());
+
+        // when
+        this.eventScheduler.run();
+
+        // then
+        Event closed = this.eventRepository.findById(closing.getId()).get();
+        assertThat(closed.isEnrollmentClosed()).isTrue();
+        assertThat(closed.isReminderSent()).isFalse();
+        assertThat(this.eventRepository.findById(upcoming.getId()).get().isReminderSent()).isTrue();
+        Event notYet = this.eventRepository.findById(later.getId()).get();
+        assertThat(notYet.isEnrollmentClosed()).isFalse();
+        assertThat(notYet.isReminderSent()).isFalse();
+        assertThrows(IllegalArgumentException.class, () -> this.eventService.addNewEnrollment(member, closing.getId()));
+
+        // outbox를 통해 리마인더 알림이 저장될 때까지 기다립니다.
+        long reminders = 0;
+        for(int i = 0; i < 50 && reminders == 0; i++) {
+            Thread.sleep(200);
+            reminders = this.notificationRepository.countByAccountIdAndChecked(member.getId(), false);
+        }
+        assertThat(reminders).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 모임의 리마인더를 여러 번, 동시에 처리해도 한 번만 전송")
+    void remind_once() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Event upcoming = 모임("scheduler-remind-once", now.minusMinutes(1), now.plusHours(1));
+        List<Long> ids = List.of(upcoming.getId());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for(int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                return transactionTemplate.execute(status -> this.eventScheduler.remind(ids, now));
+            }));
+        }
+        start.countDown();
+        int reminded = 0;
+        for(Future<Integer> future : futures) {
+            reminded += future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(reminded).isEqualTo(1);
+        Integer remindedAgain = transactionTemplate.execute(status -> this.eventScheduler.remind(ids, now));
+        assertThat(remindedAgain).isZero();
+        assertThat(this.eventRepository.findById(upcoming.getId()).get().isReminderSent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마감/리마인더 컬럼이 생기기 전의 모임은 마이그레이션 후 지난 모임을 다시 마감, 알림 하지 않음")
+    void scheduleFlagMigration() throws Exception {
+        // given - 이미 시작한 모임과 마감만 지난 모임
+        LocalDateTime now = LocalDateTime.now();
+        Event past = 모임("scheduler-migration-past", now.minusDays(3), now.minusDays(1));
+        Event closing = 모임("scheduler-migration-closing", now.minusDays(1), now.plusDays(10));
+        Event later = 모임("scheduler-migration-later", now.plusDays(5), now.plusDays(10));
+        Account member = this.accountRepository.save(Account.builder()
+                .nickname("scheduler-migration-member")
+                .email("scheduler-migration-member@email.com")
+                .password("12345678")
+                .studyEnrollmentResultByWeb(true)
+                .build());
+        this.enrollmentRepository.save(Enrollment.builder()
+                .event(past)
+                .account(member)
+                .accepted(true)
+                .enrolledAt(now.minusDays(4))
+                .build());
+
+        // when
+        this.eventScheduleFlagMigration.migrate(this.jdbcTemplate);
+
+        // then
+        Event migratedPast = this.eventRepository.findById(past.getId()).get();
+        assertThat(migratedPast.isEnrollmentClosed()).isTrue();
+        assertThat(migratedPast.isReminderSent()).isTrue();
+        Event migratedClosing = this.eventRepository.findById(closing.getId()).get();
+        assertThat(migratedClosing.isEnrollmentClosed()).isTrue();
+        assertThat(migratedClosing.isReminderSent()).isFalse();
+        Event notYet = this.eventRepository.findById(later.getId()).get();
+        assertThat(notYet.isEnrollmentClosed()).isFalse();
+        assertThat(notYet.isReminderSent()).isFalse();
+
+        // when - 지난 모임의 참가자에게 리마인더를 보내지 않음
+        this.eventScheduler.run();
+        Thread.sleep(1000);
+
+        // then
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(member.getId(), false)).isZero();
+    }
+
+    private Event 모임(String path, LocalDateTime endEnrollmentDateTime, LocalDateTime startDateTime) {
+        Account manager = this.accountRepository.save(Account.builder()
+                .nickname(path)
+                .email(path + "@email.com")
+                .password("12345678")
+                .build());
+        Study study = this.studyRepository.save(Study.builder()
+                .path(path)
+                .title(path)
+                .shortDescription(path)
+                .fullDescription(path)
+                .build());
+        Event event = Event.builder()
+                .title(path)
+                .eventType(EventType.FCFS)
+                .limitOfEnrollments(2)
+                .endEnrollmentDateTime(endEnrollmentDateTime)
+                .startDateTime(startDateTime)
+                .endDateTime(startDateTime.plusHours(2))
+                .build();
+        event.init(study, manager);
+        this.eventRepository.save(event);
+        this.eventScheduler.schedule(event);
+        return event;
+    }
+}
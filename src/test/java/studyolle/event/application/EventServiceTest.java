@@ -0,0 +1,403 @@
+package studyolle.event.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.enrollment.domain.Enrollment;
+import studyolle.enrollment.domain.EnrollmentRepository;
+import studyolle.event.domain.Event;
+import studyolle.event.domain.EventRepository;
+import studyolle.event.domain.EventType;
+import studyolle.event.dto.EnrollmentAction;
+import studyolle.event.dto.EventForm;
+import studyolle.event.dto.EventSummary;
+import studyolle.notification.domain.NotificationRepository;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class EventServiceTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private EventAcceptedCountMigration eventAcceptedCountMigration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("선착순 모임에 동시에 참가 신청해도 모집인원 만큼만 승인")
+    void addNewEnrollment_concurrent_no_oversell() throws Exception {
+        // given
+        int limitOfEnrollments = 5;
+        int applicants = 40;
+        Event event = 선착순_모임("fcfs-concurrent", limitOfEnrollments);
+        List<Account> accounts = new ArrayList<>();
+        for(int i = 0; i < applicants; i++) {
+            accounts.add(계정("fcfs-concurrent" + i));
+        }
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        동시에_실행(applicants, i -> this.eventService.addNewEnrollment(accounts.get(i), event.getId()), failures);
+
+        // then
+        List<Enrollment> enrollments = this.enrollmentRepository.findAll();
+        long accepted = enrollments.stream()
+                .filter(enrollment -> enrollment.getEvent().getId().equals(event.getId()))
+                .filter(Enrollment::isAccepted)
+                .count();
+        assertThat(failures.get()).isZero();
+        assertThat(accepted).isEqualTo(limitOfEnrollments);
+        assertThat(this.eventRepository.findById(event.getId()).get().getAcceptedCount()).isEqualTo(limitOfEnrollments);
+    }
+
+    @Test
+    @DisplayName("같은 계정이 동시에 참가 신청해도 한 번만 등록")
+    void addNewEnrollment_concurrent_duplicate() throws Exception {
+        // given
+        Event event = 선착순_모임("fcfs-duplicate", 5);
+        Account account = 계정("fcfs-duplicate");
+
+        // when
+        AtomicInteger failures = new AtomicInteger();
+        동시에_실행(THREADS, i -> this.eventService.addNewEnrollment(account, event.getId()), failures);
+
+        // then
+        long enrolled = this.enrollmentRepository.findAll().stream()
+                .filter(enrollment -> enrollment.getEvent().getId().equals(event.getId()))
+                .count();
+        assertThat(enrolled).isEqualTo(1);
+        assertThat(failures.get()).isEqualTo(THREADS - 1);
+        assertThat(this.eventRepository.findById(event.getId()).get().getAcceptedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("선착순 모임 참가 취소 시 다음 대기자 승인")
+    void cancelEnrollment_accept_next_waiting() {
+        // given
+        Event event = 선착순_모임("fcfs-waiting", 1);
+        Account first = 계정("fcfs-waiting-first");
+        Account second = 계정("fcfs-waiting-second");
+        Account third = 계정("fcfs-waiting-third");
+        this.eventService.addNewEnrollment(first, event.getId());
+        this.eventService.addNewEnrollment(second, event.getId());
+        this.eventService.addNewEnrollment(third, event.getId());
+
+        // when
+        this.eventService.cancelEnrollment(first, event.getId());
+
+        // then
+        Event persistEvent = this.eventRepository.findWithEnrollmentsById(event.getId()).get();
+        assertThat(persistEvent.getAcceptedCount()).isEqualTo(1);
+        assertThat(persistEvent.numberOfRemainSpots()).isZero();
+        assertThat(persistEvent.nextWaitingEnrollment().get().getAccount()).isEqualTo(third);
+        assertThat(this.enrollmentRepository.findByEventAndAccount(persistEvent, second).get().isAccepted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("모집인원을 늘리면 늘어난 자리 수 만큼만 대기자를 신청 순서대로 승인")
+    void updateEvent_accept_waiting_as_many_as_remain_spots() {
+        // given
+        Event event = 선착순_모임("fcfs-increase", 1);
+        List<Account> accounts = new ArrayList<>();
+        for(int i = 0; i < 5; i++) {
+            Account account = 계정("fcfs-increase" + i);
+            accounts.add(account);
+            this.eventService.addNewEnrollment(account, event.getId());
+        }
+        EventForm eventForm = EventForm.of(event);
+        eventForm.setLimitOfEnrollments(3);
+
+        // when
+        this.eventService.updateEvent(event.getId(), eventForm, event.getStudy());
+
+        // then
+        Event persistEvent = this.eventRepository.findWithEnrollmentsById(event.getId()).get();
+        assertThat(persistEvent.getAcceptedCount()).isEqualTo(3);
+        assertThat(persistEvent.getEnrollments().stream().filter(Enrollment::isAccepted).map(Enrollment::getAccount))
+                .containsExactlyInAnyOrder(accounts.get(0), accounts.get(1), accounts.get(2));
+    }
+
+    @Test
+    @DisplayName("대기자를 승인하는 사이 다른 요청이 먼저 승인한 참가 신청은 제외하고 승인, 알림")
+    void acceptEnrollments_skip_enrollments_accepted_by_other_request() throws Exception {
+        // given - 모집인원을 1명에서 5명으로 늘려 대기자 3명의 자리를 확보
+        Event event = 선착순_모임("fcfs-race", 1);
+        List<Account> accounts = new ArrayList<>();
+        for(int i = 0; i < 4; i++) {
+            Account account = this.accountRepository.save(Account.builder()
+                    .nickname("fcfs-race" + i)
+                    .email("fcfs-race" + i + "@email.com")
+                    .password("12345678")
+                    .studyEnrollmentResultByWeb(true)
+                    .build());
+            accounts.add(account);
+            this.eventService.addNewEnrollment(account, event.getId());
+        }
+        event.setLimitOfEnrollments(5);
+        this.eventRepository.save(event);
+        List<Enrollment> waitingEnrollments = this.enrollmentRepository.findWaitingEnrollments(event, PageRequest.of(0, 3));
+        this.eventRepository.increaseAcceptedCountIfAvailable(event.getId(), EventType.FCFS, 3);
+
+        // 다른 요청이 첫 번째 대기자를 먼저 승인
+        this.enrollmentRepository.acceptWaitingEnrollments(List.of(waitingEnrollments.get(0).getId()));
+        this.eventRepository.increaseAcceptedCount(event.getId(), 1);
+
+        // when
+        new TransactionTemplate(this.transactionManager).execute(status -> {
+            this.eventService.acceptEnrollments(event, waitingEnrollments);
+            return null;
+        });
+
+        // then
+        Event persistEvent = this.eventRepository.findWithEnrollmentsById(event.getId()).get();
+        assertThat(persistEvent.getAcceptedCount()).isEqualTo(4);
+        assertThat(persistEvent.getEnrollments()).allMatch(Enrollment::isAccepted);
+
+        // outbox를 통해 이 요청이 승인한 참가 신청의 알림만 저장됩니다.
+        long notified = 0;
+        for(int i = 0; i < 50 && notified < 2; i++) {
+            Thread.sleep(200);
+            notified = this.notificationRepository.countByAccountIdAndChecked(accounts.get(2).getId(), false)
+                    + this.notificationRepository.countByAccountIdAndChecked(accounts.get(3).getId(), false);
+        }
+        assertThat(notified).isEqualTo(2);
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(accounts.get(1).getId(), false)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 참가 신청을 한 번에 승인하고 출석체크")
+    void updateEnrollments() {
+        // given
+        Event event = 모임("bulk-enrollments", EventType.CONFIRMATIVE, 10);
+        List<Long> enrollmentIds = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            Account account = 계정("bulk-enrollments" + i);
+            this.eventService.addNewEnrollment(account, event.getId());
+            enrollmentIds.add(this.enrollmentRepository.findByEventAndAccount(event, account).get().getId());
+        }
+
+        // when
+        this.eventService.updateEnrollments(event.getId(), enrollmentIds, EnrollmentAction.ACCEPT);
+        this.eventService.updateEnrollments(event.getId(), enrollmentIds.subList(0, 2), EnrollmentAction.CHECK_IN);
+
+        // then
+        Event persistEvent = this.eventRepository.findWithEnrollmentsById(event.getId()).get();
+        assertThat(persistEvent.getAcceptedCount()).isEqualTo(3);
+        assertThat(persistEvent.getEnrollments()).allMatch(Enrollment::isAccepted);
+        assertThat(persistEvent.getEnrollments().stream().filter(Enrollment::isAttended)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("같은 참가 신청을 동시에 승인, 거부해도 실제로 바뀐 수 만큼만 승인 인원을 증감")
+    void updateEnrollments_concurrent_accept_reject() throws Exception {
+        // given
+        Event event = 모임("bulk-enrollments-concurrent", EventType.CONFIRMATIVE, 10);
+        List<Long> enrollmentIds = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            Account account = 계정("bulk-enrollments-concurrent" + i);
+            this.eventService.addNewEnrollment(account, event.getId());
+            enrollmentIds.add(this.enrollmentRepository.findByEventAndAccount(event, account).get().getId());
+        }
+
+        // when - 승인
+        AtomicInteger failures = new AtomicInteger();
+        동시에_실행(THREADS, i -> this.eventService.updateEnrollments(event.getId(), enrollmentIds, EnrollmentAction.ACCEPT), failures);
+
+        // then
+        assertThat(this.eventRepository.findById(event.getId()).get().getAcceptedCount()).isEqualTo(3);
+        assertThat(this.enrollmentRepository.findAllById(enrollmentIds)).allMatch(Enrollment::isAccepted);
+
+        // when - 거부
+        동시에_실행(THREADS, i -> this.eventService.updateEnrollments(event.getId(), enrollmentIds, EnrollmentAction.REJECT), failures);
+
+        // then
+        assertThat(this.eventRepository.findById(event.getId()).get().getAcceptedCount()).isZero();
+        assertThat(this.enrollmentRepository.findAllById(enrollmentIds)).noneMatch(Enrollment::isAccepted);
+    }
+
+    @Test
+    @DisplayName("적용 할 수 없는 참가 신청이 하나라도 있으면 모두 취소")
+    void updateEnrollments_fail_all() {
+        // given
+        Event event = 모임("bulk-enrollments-fail", EventType.CONFIRMATIVE, 10);
+        Account first = 계정("bulk-enrollments-fail0");
+        Account second = 계정("bulk-enrollments-fail1");
+        this.eventService.addNewEnrollment(first, event.getId());
+        this.eventService.addNewEnrollment(second, event.getId());
+        Long firstId = this.enrollmentRepository.findByEventAndAccount(event, first).get().getId();
+        Long secondId = this.enrollmentRepository.findByEventAndAccount(event, second).get().getId();
+        this.eventService.acceptEnrollment(event.getId(), firstId);
+
+        // when - then
+        assertThrows(IllegalArgumentException.class, () -> this.eventService
+                .updateEnrollments(event.getId(), Arrays.asList(firstId, secondId), EnrollmentAction.CHECK_IN));
+        assertThat(this.enrollmentRepository.findById(firstId).get().isAttended()).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 전 참가 신청을 추가해도 참가 신청 목록에 포함")
+    void addEnrollment_unsaved_enrollment() {
+        // given
+        Event event = new Event();
+        Enrollment saved = Enrollment.builder().id(1L).build();
+        event.addEnrollment(saved);
+
+        // when
+        Enrollment unsaved = new Enrollment();
+        event.addEnrollment(unsaved);
+        unsaved.setId(2L);
+
+        // then
+        assertThat(event.getEnrollments()).containsExactly(saved, unsaved);
+        assertThat(unsaved.getEvent()).isSameAs(event);
+    }
+
+    @Test
+    @DisplayName("모임 요약에 승인/대기 수와 계정의 참가 상태 포함")
+    void findEventSummaries() {
+        // given
+        Event event = 선착순_모임("event-summary", 1);
+        Account first = 계정("event-summary-first");
+        Account second = 계정("event-summary-second");
+        this.eventService.addNewEnrollment(first, event.getId());
+        this.eventService.addNewEnrollment(second, event.getId());
+
+        // when
+        List<EventSummary> summaries = this.eventService.findEventSummaries(event.getStudy(), second);
+
+        // then
+        assertThat(summaries).hasSize(1);
+        assertThat(summaries.get(0).getAcceptedCount()).isEqualTo(1);
+        assertThat(summaries.get(0).getWaitingCount()).isEqualTo(1);
+        assertThat(summaries.get(0).numberOfRemainSpots()).isZero();
+        assertThat(summaries.get(0).getEnrollmentStatus()).isEqualTo(EventSummary.EnrollmentStatus.WAITING);
+        assertThat(this.eventService.findEventSummaries(event.getStudy(), first).get(0).getEnrollmentStatus())
+                .isEqualTo(EventSummary.EnrollmentStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("accepted_count 컬럼이 생기기 전의 모임은 마이그레이션 후 승인 된 참가 신청 수 만큼 자리가 차있음")
+    void acceptedCountMigration() {
+        // given - 승인 된 참가 신청은 있지만 accepted_count는 0인 기존 모임
+        Event event = 선착순_모임("fcfs-migration", 2);
+        for(int i = 0; i < 2; i++) {
+            this.enrollmentRepository.save(Enrollment.builder()
+                    .event(event)
+                    .account(계정("fcfs-migration" + i))
+                    .enrolledAt(LocalDateTime.now())
+                    .accepted(true)
+                    .build());
+        }
+        assertThat(this.eventRepository.findById(event.getId()).get().numberOfRemainSpots()).isEqualTo(2);
+
+        // when
+        this.eventAcceptedCountMigration.migrate(this.jdbcTemplate);
+
+        // then
+        Event persistEvent = this.eventRepository.findById(event.getId()).get();
+        assertThat(persistEvent.getAcceptedCount()).isEqualTo(2);
+        assertThat(persistEvent.numberOfRemainSpots()).isZero();
+        Account late = 계정("fcfs-migration-late");
+        this.eventService.addNewEnrollment(late, event.getId());
+        assertThat(this.enrollmentRepository.findByEventAndAccount(persistEvent, late).get().isAccepted()).isFalse();
+        assertThat(this.eventRepository.findById(event.getId()).get().getAcceptedCount()).isEqualTo(2);
+    }
+
+    private void 동시에_실행(int count, IntConsumer task, AtomicInteger failures) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            int index = i;
+            futures.add(executorService.submit(() -> {
+                start.await();
+                try {
+                    task.accept(index);
+                } catch (IllegalArgumentException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+    }
+
+    private Event 선착순_모임(String path, int limitOfEnrollments) {
+        return 모임(path, EventType.FCFS, limitOfEnrollments);
+    }
+
+    private Event 모임(String path, EventType eventType, int limitOfEnrollments) {
+        Account manager = 계정(path + "-manager");
+        Study study = this.studyRepository.save(Study.builder()
+                .path(path)
+                .title(path)
+                .shortDescription(path)
+                .fullDescription(path)
+                .build());
+        LocalDateTime now = LocalDateTime.now();
+        Event event = Event.builder()
+                .title(path)
+                .eventType(eventType)
+                .limitOfEnrollments(limitOfEnrollments)
+                .endEnrollmentDateTime(now.plusDays(1))
+                .startDateTime(now.plusDays(2))
+                .endDateTime(now.plusDays(3))
+                .build();
+        event.init(study, manager);
+        return this.eventRepository.save(event);
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
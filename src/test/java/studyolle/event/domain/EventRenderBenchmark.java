@@ -0,0 +1,115 @@
+package studyolle.event.domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.security.UserAccount;
+import studyolle.enrollment.domain.Enrollment;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모임 상세 화면에서 호출하는 계정별 참가 상태 확인 비용을 측정합니다.
+ * 화면 한 번을 그릴 때마다 새로 읽은 모임(aggregate)을 사용하므로 조회용 맵을 만드는 비용까지 포함됩니다.
+ * linearScan은 참가 신청 목록을 매번 순회하던 이전 방식입니다.
+ *
+ * 실행: IDE에서 main 실행 또는
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=studyolle.event.domain.EventRenderBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventRenderBenchmark {
+
+    @Param({"100", "10000"})
+    private int enrollments;
+
+    private Account[] accounts;
+    private LocalDateTime now;
+    private UserAccount viewer;
+    private Event event;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.now = LocalDateTime.now();
+        this.accounts = new Account[this.enrollments];
+        for (int i = 0; i < this.enrollments; i++) {
+            this.accounts[i] = Account.builder().id((long) i).nickname("user" + i).password("password").build();
+        }
+        this.viewer = new UserAccount(this.accounts[this.enrollments - 1]);
+    }
+
+    @Setup(Level.Invocation)
+    public void loadEvent() {
+        this.event = Event.builder()
+                .id(1L)
+                .eventType(EventType.FCFS)
+                .limitOfEnrollments(this.enrollments / 2)
+                .endEnrollmentDateTime(this.now.plusDays(1))
+                .build();
+        for (int i = 0; i < this.enrollments; i++) {
+            this.event.getEnrollments().add(Enrollment.builder()
+                    .id((long) i)
+                    .event(this.event)
+                    .account(this.accounts[i])
+                    .enrolledAt(this.now.plusSeconds(i))
+                    .accepted(i < this.enrollments / 2)
+                    .build());
+        }
+    }
+
+    /**
+     * event/view.html 이 한 번 그려질 때 호출하는 메소드들
+     */
+    @Benchmark
+    public void renderEventView(Blackhole blackhole) {
+        blackhole.consume(this.event.isEnrollableFor(this.viewer));
+        blackhole.consume(this.event.isDisenrollableFor(this.viewer));
+        blackhole.consume(this.event.isAttended(this.viewer));
+        blackhole.consume(this.event.getWaitingPosition(this.viewer));
+        blackhole.consume(this.event.getWaitingPosition(this.viewer));
+    }
+
+    /**
+     * 같은 확인을 참가 신청 목록 순회로 처리하던 이전 방식
+     */
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        Account account = this.accounts[this.enrollments - 1];
+        for (int i = 0; i < 5; i++) {
+            blackhole.consume(this.event.getEnrollments().stream()
+                    .anyMatch(enrollment -> enrollment.getAccount().equals(account)));
+        }
+        for (int i = 0; i < 2; i++) {
+            blackhole.consume(this.event.getEnrollments().stream()
+                    .filter(enrollment -> !enrollment.isAccepted())
+                    .sorted((o1, o2) -> o1.getEnrolledAt().compareTo(o2.getEnrolledAt()))
+                    .takeWhile(enrollment -> !enrollment.getAccount().equals(account))
+                    .count());
+        }
+    }
+
+    /**
+     * 조회용 맵이 만들어진 뒤의 확인 비용 (같은 aggregate로 여러 번 확인하는 경우)
+     */
+    @Benchmark
+    public void lookupAfterBuilt(Blackhole blackhole) {
+        this.renderEventView(blackhole);
+        this.renderEventView(blackhole);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EventRenderBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
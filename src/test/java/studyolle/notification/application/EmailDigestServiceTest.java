@@ -0,0 +1,75 @@
+package studyolle.notification.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import studyolle.common.email.EmailMessage;
+import studyolle.common.email.QueuedEmailService;
+import studyolle.notification.domain.EmailDigestItem;
+import studyolle.notification.domain.EmailDigestItemRepository;
+import studyolle.notification.domain.Notification;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+
+@SpringBootTest
+class EmailDigestServiceTest {
+
+    @MockBean
+    private QueuedEmailService emailService;
+
+    @Autowired
+    private EmailDigestService emailDigestService;
+
+    @Autowired
+    private EmailDigestItemRepository emailDigestItemRepository;
+
+    @Test
+    @DisplayName("계정별 이메일 알림을 한 통의 메일로 묶어서 전송")
+    void flush() {
+        // given
+        this.emailDigestService.add(Arrays.asList(
+                이메일알림(900001L, "digest1@email.com", "스터디 A"),
+                이메일알림(900001L, "digest1@email.com", "스터디 B"),
+                이메일알림(900002L, "digest2@email.com", "스터디 C")));
+
+        // when
+        this.emailDigestService.flush();
+
+        // then
+        ArgumentCaptor<EmailMessage> captor = ArgumentCaptor.forClass(EmailMessage.class);
+        then(this.emailService).should(atLeastOnce()).sendEmail(captor.capture());
+        List<EmailMessage> digest1 = 수신자(captor.getAllValues(), "digest1@email.com");
+        List<EmailMessage> digest2 = 수신자(captor.getAllValues(), "digest2@email.com");
+        assertThat(digest1).hasSize(1);
+        assertThat(digest1.get(0).getSubject()).contains("2건");
+        assertThat(digest1.get(0).getMessage()).contains("스터디 A", "스터디 B", "/notifications");
+        assertThat(digest2).hasSize(1);
+        assertThat(digest2.get(0).getMessage()).contains("스터디 C", "/study/c");
+        assertThat(this.emailDigestItemRepository.count()).isZero();
+    }
+
+    private EmailDigestItem 이메일알림(Long accountId, String email, String title) {
+        Notification notification = new Notification();
+        notification.setTitle(title);
+        notification.setLink("/study/c");
+        notification.setMessage(title + " 스터디가 공개되었습니다.");
+        notification.setCreatedDateTime(LocalDateTime.now().minusSeconds(1));
+        return EmailDigestItem.of(accountId, email, "digest" + accountId, notification);
+    }
+
+    private List<EmailMessage> 수신자(List<EmailMessage> messages, String to) {
+        return messages.stream()
+                .filter(message -> to.equals(message.getTo()))
+                .collect(Collectors.toList());
+    }
+}
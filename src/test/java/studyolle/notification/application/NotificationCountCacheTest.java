@@ -0,0 +1,109 @@
+package studyolle.notification.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.notification.domain.Notification;
+import studyolle.notification.domain.NotificationRepository;
+import studyolle.notification.domain.NotificationType;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class NotificationCountCacheTest {
+
+    @Autowired
+    private NotificationCountCache notificationCountCache;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("캐시 된 알림 수는 트랜잭션이 커밋 된 후에만 증감하고 0 미만이 되지 않음")
+    void increment_after_commit() {
+        // given
+        Account account = 계정("count-cache-commit");
+        알림(account);
+        assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isEqualTo(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+
+        // when - 커밋
+        transactionTemplate.execute(status -> {
+            this.notificationCountCache.increment(account.getId());
+            assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isEqualTo(1);
+            return null;
+        });
+
+        // then
+        assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isEqualTo(2);
+
+        // when - 롤백
+        transactionTemplate.execute(status -> {
+            this.notificationCountCache.increment(account.getId());
+            status.setRollbackOnly();
+            return null;
+        });
+
+        // then
+        assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isEqualTo(2);
+
+        // when - 트랜잭션 밖에서는 바로 반영
+        this.notificationCountCache.decrement(account.getId(), 5);
+
+        // then
+        assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시를 거치지 않고 바뀐 알림 수는 reconcile 후 DB의 값으로 맞춤")
+    void reconcile() {
+        // given
+        Account account = 계정("count-cache-reconcile");
+        Account unread = 계정("count-cache-reconcile-none");
+        assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isZero();
+        assertThat(this.notificationCountCache.getUnreadCount(unread.getId())).isZero();
+        this.notificationCountCache.increment(unread.getId());
+        알림(account);
+        알림(account);
+
+        // when
+        this.notificationCountCache.reconcile();
+
+        // then
+        assertThat(this.notificationCountCache.getUnreadCount(account.getId())).isEqualTo(2);
+        assertThat(this.notificationCountCache.getUnreadCount(unread.getId())).isZero();
+    }
+
+    private void 알림(Account account) {
+        this.notificationRepository.save(Notification.builder()
+                .title("count-cache")
+                .link("/")
+                .message("count-cache")
+                .checked(false)
+                .account(account)
+                .createdDateTime(LocalDateTime.now())
+                .notificationType(NotificationType.STUDY_UPDATED)
+                .build());
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
@@ -0,0 +1,149 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.study.domain.StudyCard;
+import studyolle.study.domain.StudyCardRepository;
+import studyolle.study.dto.StudyForm;
+import studyolle.tag.domain.Tag;
+import studyolle.tag.domain.TagRepository;
+import studyolle.zone.domain.Zone;
+import studyolle.zone.domain.ZoneRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudyCardServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyCardService studyCardService;
+
+    @Autowired
+    private StudyCardRepository studyCardRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ZoneRepository zoneRepository;
+
+    @Test
+    @DisplayName("스터디 공개, 관심분야/활동지역, 멤버, 이름 변경이 커밋되면 카드에 반영되고 삭제하면 카드도 삭제")
+    void refresh() {
+        // given
+        String path = "study-card";
+        Account manager = 계정("study-card-manager");
+        Account member = 계정("study-card-member");
+        Long studyId = this.studyService.createStudy(manager, 스터디_폼(path)).getId();
+        Tag tag = this.tagRepository.save(Tag.builder().title("study-card-tag").build());
+        Zone zone = this.zoneRepository.findByCityAndProvince("Gunpo", "Gyeonggi").get();
+        this.studyService.addTag(manager, path, tag);
+        this.studyService.addZone(manager, path, zone);
+        assertThat(this.studyCardRepository.findById(studyId)).isEmpty();
+
+        // when
+        this.studyService.publish(manager, path);
+        this.studyService.joinStudy(member, path);
+        this.studyService.changeStudyTitle(manager, path, "new-title");
+
+        // then
+        StudyCard card = this.studyCardRepository.findById(studyId).get();
+        assertThat(card.getPath()).isEqualTo(path);
+        assertThat(card.getTitle()).isEqualTo("new-title");
+        assertThat(card.getTagTitles()).containsExactly("study-card-tag");
+        assertThat(card.getZoneNames()).containsExactly(zone.getLocalNameOfCity());
+        assertThat(card.getMemberCount()).isEqualTo(2);
+        assertThat(card.getPublishedDateTime()).isNotNull();
+        assertThat(this.studyService.findTop9ByOrderPublishedDateTime()).contains(card);
+
+        this.studyService.close(manager, path);
+        assertThat(this.studyCardRepository.findById(studyId).get().isClosed()).isTrue();
+        assertThat(this.studyService.findTop9ByOrderPublishedDateTime()).doesNotContain(card);
+
+        this.studyService.removeStudy(manager, path);
+        assertThat(this.studyCardRepository.findById(studyId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 스터디의 카드를 동시에 다시 만들어도 카드는 하나만 만들고 실패하지 않음")
+    void refresh_concurrent() throws Exception {
+        // given
+        String path = "study-card-concurrent";
+        Account manager = 계정("study-card-concurrent-manager");
+        Long studyId = this.studyService.createStudy(manager, 스터디_폼(path)).getId();
+        this.studyService.publish(manager, path);
+        this.studyCardRepository.deleteById(studyId);
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                this.studyCardService.refresh(studyId);
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        assertThat(this.studyCardRepository.findById(studyId).get().getPath()).isEqualTo(path);
+    }
+
+    @Test
+    @DisplayName("ID 목록의 순서대로 카드 조회, 카드가 없는 스터디는 제외")
+    void findCards() {
+        Account manager = 계정("study-card-order");
+        Long first = 공개된_스터디(manager, "study-card-order-1");
+        Long second = 공개된_스터디(manager, "study-card-order-2");
+        Long notPublished = this.studyService.createStudy(manager, 스터디_폼("study-card-order-3")).getId();
+
+        List<StudyCard> cards = this.studyCardService.findCards(List.of(second, notPublished, first));
+
+        assertThat(cards).extracting(StudyCard::getStudyId).containsExactly(second, first);
+    }
+
+    private Long 공개된_스터디(Account manager, String path) {
+        Long studyId = this.studyService.createStudy(manager, 스터디_폼(path)).getId();
+        this.studyService.publish(manager, path);
+        return studyId;
+    }
+
+    private StudyForm 스터디_폼(String path) {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath(path);
+        studyForm.setTitle(path);
+        studyForm.setShortDescription(path);
+        studyForm.setFullDescription(path);
+        return studyForm;
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
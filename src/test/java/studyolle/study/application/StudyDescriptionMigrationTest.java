@@ -0,0 +1,82 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudyDescriptionMigrationTest {
+
+    @Autowired
+    private StudyDescriptionMigration studyDescriptionMigration;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void afterEach() {
+        this.jdbcTemplate.execute("alter table study drop column if exists full_description");
+    }
+
+    @Test
+    @DisplayName("옛 컬럼의 상세 소개를 study_description으로 옮기고, 이미 옮긴 스터디는 다시 옮기지 않음")
+    void migrate() {
+        // given - 상세 소개를 study 테이블에 저장하던 때의 스터디
+        this.jdbcTemplate.execute("alter table study add column full_description clob");
+        Study study = 스터디("description-migration");
+        Study empty = 스터디("description-migration-empty");
+        this.jdbcTemplate.update("update study set full_description = ? where id = ?"
+                , "<p>description-migration</p>", study.getId());
+
+        // when
+        this.studyDescriptionMigration.migrate(this.jdbcTemplate);
+        this.studyDescriptionMigration.migrate(this.jdbcTemplate);
+
+        // then
+        assertThat(상세_소개(study)).isEqualTo("<p>description-migration</p>");
+        assertThat(상세_소개(empty)).isNull();
+        assertThat(this.jdbcTemplate.queryForObject("select count(*) from study_description where content = ?"
+                , Integer.class, "<p>description-migration</p>")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("옛 컬럼이 없는 DB에서는 아무것도 하지 않음")
+    void migrate_without_old_column() {
+        // given
+        Study study = 스터디("description-migration-new");
+
+        // when
+        this.studyDescriptionMigration.migrate(this.jdbcTemplate);
+
+        // then
+        assertThat(상세_소개(study)).isNull();
+    }
+
+    private String 상세_소개(Study study) {
+        return new TransactionTemplate(this.transactionManager).execute(status ->
+                this.studyRepository.findById(study.getId()).get().getFullDescription());
+    }
+
+    private Study 스터디(String path) {
+        return this.studyRepository.save(Study.builder()
+                .path(path)
+                .title(path)
+                .shortDescription(path)
+                .build());
+    }
+}
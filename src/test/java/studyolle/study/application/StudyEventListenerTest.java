@@ -0,0 +1,141 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.notification.domain.EmailDigestItemRepository;
+import studyolle.notification.domain.NotificationRepository;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+import studyolle.tag.domain.Tag;
+import studyolle.tag.domain.TagRepository;
+import studyolle.zone.domain.Zone;
+import studyolle.zone.domain.ZoneRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudyEventListenerTest {
+
+    @Autowired
+    private StudyEventListener studyEventListener;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EmailDigestItemRepository emailDigestItemRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ZoneRepository zoneRepository;
+
+    @Test
+    @DisplayName("스터디 개설 알림은 웹 알림 설정 계정에게만 저장하고, 이메일 알림 설정 계정은 다이제스트에 추가")
+    void handleStudyCreatedEvent() {
+        // given
+        Tag tag = this.tagRepository.save(Tag.builder().title("study-created-listener").build());
+        Zone zone = this.zoneRepository.findByCityAndProvince("Gunpo", "Gyeonggi").get();
+        Account byWeb = 계정("study-created-web", tag, zone, true, false);
+        Account byEmail = 계정("study-created-email", tag, zone, false, true);
+        // 관심분야가 여러 개 겹쳐도 알림은 한 번만 저장
+        Tag otherTag = this.tagRepository.save(Tag.builder().title("study-created-listener-other").build());
+        byWeb.getTags().add(otherTag);
+        this.accountRepository.save(byWeb);
+        Study study = Study.builder()
+                .path("study-created-listener")
+                .title("study-created-listener")
+                .shortDescription("study-created-listener")
+                .fullDescription("study-created-listener")
+                .build();
+        study.getTags().add(tag);
+        study.getTags().add(otherTag);
+        study.getZones().add(zone);
+        this.studyRepository.save(study);
+
+        // when
+        this.studyEventListener.handleStudyCreatedEvent(new StudyCreatedEvent(study.getId()));
+
+        // then
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(byWeb.getId(), false)).isEqualTo(1);
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(byEmail.getId(), false)).isEqualTo(0);
+        assertThat(다이제스트_수(byWeb)).isEqualTo(0);
+        assertThat(다이제스트_수(byEmail)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스터디 변경 알림은 멤버의 스터디 변경 웹 알림 설정에 따라 저장하고, 이메일 알림 설정 멤버는 다이제스트에 추가")
+    void handleStudyUpdatedEvent() {
+        // given
+        Account updatedByWeb = this.accountRepository.save(Account.builder()
+                .nickname("study-updated-web")
+                .email("study-updated-web@email.com")
+                .password("12345678")
+                .studyUpdatedByWeb(true)
+                .build());
+        Account createdByWeb = this.accountRepository.save(Account.builder()
+                .nickname("study-updated-created-web")
+                .email("study-updated-created-web@email.com")
+                .password("12345678")
+                .studyCreatedByWeb(true)
+                .build());
+        Account updatedByEmail = this.accountRepository.save(Account.builder()
+                .nickname("study-updated-email")
+                .email("study-updated-email@email.com")
+                .password("12345678")
+                .studyUpdatedByEmail(true)
+                .build());
+        Study study = Study.builder()
+                .path("study-updated-listener")
+                .title("study-updated-listener")
+                .shortDescription("study-updated-listener")
+                .fullDescription("study-updated-listener")
+                .build()
+                .addCreateMember(updatedByWeb);
+        study.getMembers().add(createdByWeb);
+        study.getMembers().add(updatedByEmail);
+        this.studyRepository.save(study);
+
+        // when
+        this.studyEventListener.handleStudyUpdatedEvent(new StudyUpdatedEvent(study.getId(), "updated"));
+
+        // then
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(updatedByWeb.getId(), false)).isEqualTo(1);
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(createdByWeb.getId(), false)).isEqualTo(0);
+        assertThat(this.notificationRepository.countByAccountIdAndChecked(updatedByEmail.getId(), false)).isEqualTo(0);
+        assertThat(다이제스트_수(updatedByWeb)).isEqualTo(0);
+        assertThat(다이제스트_수(updatedByEmail)).isEqualTo(1);
+    }
+
+    private int 다이제스트_수(Account account) {
+        return this.emailDigestItemRepository.findByAccountIdInAndCreatedDateTimeLessThanEqualOrderByIdAsc(
+                List.of(account.getId()), LocalDateTime.now()).size();
+    }
+
+    private Account 계정(String nickname, Tag tag, Zone zone, boolean byWeb, boolean byEmail) {
+        Account account = Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .studyCreatedByWeb(byWeb)
+                .studyCreatedByEmail(byEmail)
+                .build();
+        account.getTags().add(tag);
+        account.getZones().add(zone);
+        return this.accountRepository.save(account);
+    }
+}
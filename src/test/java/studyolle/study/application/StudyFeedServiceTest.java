@@ -0,0 +1,133 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.config.AppProperties;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyFeedRepository;
+import studyolle.study.domain.StudyRepository;
+import studyolle.tag.domain.Tag;
+import studyolle.tag.domain.TagRepository;
+import studyolle.zone.domain.Zone;
+import studyolle.zone.domain.ZoneRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudyFeedServiceTest {
+
+    @Autowired
+    private StudyFeedService studyFeedService;
+
+    @Autowired
+    private StudyFeedRepository studyFeedRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ZoneRepository zoneRepository;
+
+    @Autowired
+    private AppProperties appProperties;
+
+    @Test
+    @DisplayName("스터디를 다시 계산하면 관심 계정의 피드에 추가하고 피드 크기를 넘은 오래된 행은 삭제")
+    void refreshStudy() {
+        // given
+        Tag tag = this.tagRepository.save(Tag.builder().title("study-feed-refresh").build());
+        Zone zone = this.zoneRepository.findByCityAndProvince("Gunpo", "Gyeonggi").get();
+        Account account = 계정("study-feed-refresh", tag, zone);
+        int feedSize = this.appProperties.getStudyFeedSize();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> studyIds = new ArrayList<>();
+        for(int i = 0; i <= feedSize; i++) {
+            studyIds.add(스터디("study-feed-refresh-" + i, tag, zone, now.minusDays(feedSize + 1 - i)).getId());
+        }
+
+        // when
+        studyIds.forEach(this.studyFeedService::refreshStudy);
+
+        // then - 가장 오래된 스터디는 삭제되고 최근 공개 순으로 피드 크기 만큼 유지
+        List<Long> expected = new ArrayList<>(studyIds.subList(1, studyIds.size()));
+        Collections.reverse(expected);
+        assertThat(피드(account)).containsExactlyElementsOf(expected);
+
+        // when - 공개하지 않은 스터디가 되면 피드에서 제거
+        Study study = this.studyRepository.findById(studyIds.get(feedSize)).get();
+        study.setPublished(false);
+        this.studyRepository.save(study);
+        this.studyFeedService.refreshStudy(study.getId());
+
+        // then - 비는 자리는 피드 크기 때문에 빠졌던 가장 오래된 스터디로 채움
+        expected.remove(study.getId());
+        expected.add(studyIds.get(0));
+        assertThat(피드(account)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("계정의 피드를 다시 만들면 현재 관심분야, 활동지역의 최근 스터디로 교체")
+    void rebuildAccount() {
+        // given
+        Tag tag = this.tagRepository.save(Tag.builder().title("study-feed-rebuild").build());
+        Zone zone = this.zoneRepository.findByCityAndProvince("Gunpo", "Gyeonggi").get();
+        Account account = 계정("study-feed-rebuild", tag, zone);
+        LocalDateTime now = LocalDateTime.now();
+        Long older = 스터디("study-feed-rebuild-1", tag, zone, now.minusDays(2)).getId();
+        Long newer = 스터디("study-feed-rebuild-2", tag, zone, now.minusDays(1)).getId();
+        this.studyFeedService.refreshStudy(older);
+
+        // when - 이미 있는 행을 다시 만들어도 중복되지 않음
+        this.studyFeedService.rebuildAccount(account.getId());
+        this.studyFeedService.rebuildAccount(account.getId());
+
+        // then
+        assertThat(피드(account)).containsExactly(newer, older);
+        assertThat(this.studyFeedService.findAccountIdsHavingFeed()).contains(account.getId());
+    }
+
+    private List<Long> 피드(Account account) {
+        return this.studyFeedRepository.findStudyIdsByAccountId(account.getId(), PageRequest.of(0, 100));
+    }
+
+    private Study 스터디(String path, Tag tag, Zone zone, LocalDateTime publishedDateTime) {
+        Study study = Study.builder()
+                .path(path)
+                .title(path)
+                .shortDescription(path)
+                .fullDescription(path)
+                .published(true)
+                .publishedDateTime(publishedDateTime)
+                .build();
+        study.getTags().add(tag);
+        study.getZones().add(zone);
+        return this.studyRepository.save(study);
+    }
+
+    private Account 계정(String nickname, Tag tag, Zone zone) {
+        Account account = Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build();
+        account.getTags().add(tag);
+        account.getZones().add(zone);
+        return this.accountRepository.save(account);
+    }
+}
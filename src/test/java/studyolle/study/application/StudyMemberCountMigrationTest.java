@@ -0,0 +1,57 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.study.domain.Study;
+import studyolle.study.domain.StudyRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudyMemberCountMigrationTest {
+
+    @Autowired
+    private StudyMemberCountMigration studyMemberCountMigration;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("만든 계정을 멤버 수에 포함하기 전의 스터디는 마이그레이션 후 study_members의 행 수 만큼 멤버 수를 가짐")
+    void migrate() {
+        // given - 만든 계정을 세지 않던 때의 스터디
+        Study study = this.studyRepository.save(Study.builder()
+                .path("member-count-migration")
+                .title("member-count-migration")
+                .shortDescription("member-count-migration")
+                .build()
+                .addCreateMember(계정("member-count-migration-manager")));
+        this.studyRepository.insertMember(study.getId(), 계정("member-count-migration-member").getId());
+        this.jdbcTemplate.update("update study set member_count = 1 where id = ?", study.getId());
+
+        // when
+        this.studyMemberCountMigration.migrate(this.jdbcTemplate);
+
+        // then
+        assertThat(this.studyRepository.findById(study.getId()).get().getMemberCount()).isEqualTo(2);
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
@@ -0,0 +1,114 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.study.dto.StudyForm;
+import studyolle.tag.domain.Tag;
+import studyolle.tag.domain.TagRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudySearchIndexTest {
+
+    @Autowired
+    private StudySearchIndex studySearchIndex;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Test
+    @DisplayName("공개, 이름/관심분야 변경이 커밋되면 인덱스를 갱신하고 삭제하면 인덱스에서 제거")
+    void index_update_and_remove() {
+        // given
+        String path = "search-index";
+        Account manager = 계정("search-index-manager");
+        Long studyId = this.studyService.createStudy(manager, 스터디_폼(path, "인덱스가나다")).getId();
+        assertThat(검색("가나다").getContent()).doesNotContain(studyId);
+
+        // when - 공개
+        this.studyService.publish(manager, path);
+
+        // then
+        assertThat(this.studySearchIndex.isReady()).isTrue();
+        assertThat(검색("가나다").getContent()).containsExactly(studyId);
+        assertThat(검색("인덱스가나다").getContent()).containsExactly(studyId);
+
+        // when - 이름, 관심분야 변경
+        this.studyService.changeStudyTitle(manager, path, "인덱스라마바");
+        this.studyService.addTag(manager, path, this.tagRepository.save(Tag.builder().title("SearchIndexTag").build()));
+
+        // then - 이전 이름으로는 찾지 않고, 관심분야는 대소문자 구분 없이 찾음
+        assertThat(검색("가나다").getContent()).isEmpty();
+        assertThat(검색("라마바").getContent()).containsExactly(studyId);
+        assertThat(검색("searchindextag").getContent()).containsExactly(studyId);
+
+        // when - 삭제
+        this.studyService.removeStudy(manager, path);
+
+        // then
+        assertThat(검색("라마바").getContent()).isEmpty();
+        assertThat(검색("searchindextag").getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 결과를 요청한 정렬 조건으로 페이징")
+    void search_sort_and_page() {
+        // given
+        Account manager = 계정("search-index-page");
+        Long first = 공개된_스터디(manager, "search-index-page-1", "페이징사아자 1");
+        Long second = 공개된_스터디(manager, "search-index-page-2", "페이징사아자 2");
+        Long third = 공개된_스터디(manager, "search-index-page-3", "페이징사아자 3");
+
+        // when
+        Page<Long> page = this.studySearchIndex.search("사아자"
+                , PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "publishedDateTime")));
+        Page<Long> next = this.studySearchIndex.search("사아자"
+                , PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "publishedDateTime")));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).containsExactly(third, second);
+        assertThat(next.getContent()).containsExactly(first);
+    }
+
+    private Page<Long> 검색(String keyword) {
+        return this.studySearchIndex.search(keyword, PageRequest.of(0, 10));
+    }
+
+    private Long 공개된_스터디(Account manager, String path, String title) {
+        Long studyId = this.studyService.createStudy(manager, 스터디_폼(path, title)).getId();
+        this.studyService.publish(manager, path);
+        return studyId;
+    }
+
+    private StudyForm 스터디_폼(String path, String title) {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath(path);
+        studyForm.setTitle(title);
+        studyForm.setShortDescription(path);
+        studyForm.setFullDescription(path);
+        return studyForm;
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
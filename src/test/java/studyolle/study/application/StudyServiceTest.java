@@ -0,0 +1,88 @@
+package studyolle.study.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import studyolle.account.domain.Account;
+import studyolle.account.domain.AccountRepository;
+import studyolle.study.domain.StudyRepository;
+import studyolle.study.dto.StudyForm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudyServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("같은 계정이 동시에 가입해도 한 번만 가입하고 멤버 수는 1만 증가")
+    void joinStudy_concurrent_duplicate() throws Exception {
+        // given
+        String path = "join-concurrent";
+        Account manager = 계정("join-concurrent-manager");
+        Long studyId = this.studyService.createStudy(manager, 스터디_폼(path)).getId();
+        Account member = 계정("join-concurrent-member");
+        int memberCount = this.studyRepository.findById(studyId).get().getMemberCount();
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for(int i = 0; i < THREADS; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                try {
+                    this.studyService.joinStudy(member, path);
+                } catch (IllegalArgumentException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+        this.studyService.joinStudy(member, path);
+
+        // then
+        assertThat(this.studyRepository.countMember(studyId, member.getId())).isEqualTo(1);
+        assertThat(this.studyRepository.findById(studyId).get().getMemberCount()).isEqualTo(memberCount + 1);
+        assertThat(failures.get()).isLessThan(THREADS);
+    }
+
+    private StudyForm 스터디_폼(String path) {
+        StudyForm studyForm = new StudyForm();
+        studyForm.setPath(path);
+        studyForm.setTitle(path);
+        studyForm.setShortDescription(path);
+        studyForm.setFullDescription(path);
+        return studyForm;
+    }
+
+    private Account 계정(String nickname) {
+        return this.accountRepository.save(Account.builder()
+                .nickname(nickname)
+                .email(nickname + "@email.com")
+                .password("12345678")
+                .build());
+    }
+}
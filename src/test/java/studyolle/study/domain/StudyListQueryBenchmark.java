@@ -0,0 +1,129 @@
+package studyolle.study.domain;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studyolle.App;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메인 화면(최근 스터디 9개), 검색 화면(한 페이지 9개)의 스터디 목록 조회 비용을 측정합니다.
+ * withDescription 벤치마크는 상세 소개를 스터디 테이블에서 항상 함께 읽던 이전 방식과 같은 양을 읽도록 상세 소개를 fetch join 합니다.
+ * 시작 시 스터디 한 행(상세 소개 제외)과 상세 소개의 평균 크기를 DB에서 octet_length로 측정해 출력합니다.
+ *
+ * 실행: IDE에서 main 실행 또는
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=studyolle.study.domain.StudyListQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudyListQueryBenchmark {
+
+    private static final int STUDIES = 500;
+    private static final int PAGE_SIZE = 9;
+
+    @Param({"1000", "20000"})
+    private int descriptionLength;
+
+    private ConfigurableApplicationContext context;
+    private StudyRepository studyRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(App.class)
+                .run("--spring.profiles.active=local", "--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=warn");
+        this.studyRepository = this.context.getBean(StudyRepository.class);
+        this.entityManager = this.context.getBean(EntityManager.class);
+        this.transactionTemplate = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+
+        String fullDescription = "<p>" + "상세 소개".repeat(this.descriptionLength / 5) + "</p>";
+        LocalDateTime now = LocalDateTime.now();
+        this.transactionTemplate.executeWithoutResult(status -> {
+            for(int i = 0; i < STUDIES; i++) {
+                this.studyRepository.save(Study.builder()
+                        .path("benchmark-" + i)
+                        .title("benchmark study " + i)
+                        .shortDescription("짧은 소개 " + i)
+                        .fullDescription(fullDescription)
+                        .published(true)
+                        .publishedDateTime(now.minusMinutes(i))
+                        .build());
+            }
+        });
+        this.printRowSizes();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public void recentStudies(Blackhole blackhole) {
+        this.transactionTemplate.executeWithoutResult(status -> this.consume(blackhole, this.studyRepository
+                .findTop9ByPublishedAndClosedOrderByPublishedDateTimeDesc(true, false)));
+    }
+
+    @Benchmark
+    public void recentStudiesWithDescription(Blackhole blackhole) {
+        this.transactionTemplate.executeWithoutResult(status -> this.consume(blackhole, this.entityManager
+                .createQuery("select s from Study s join fetch s.description"
+                        + " where s.published = true and s.closed = false order by s.publishedDateTime desc", Study.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()));
+    }
+
+    @Benchmark
+    public void searchStudies(Blackhole blackhole) {
+        this.transactionTemplate.executeWithoutResult(status -> this.consume(blackhole, this.studyRepository
+                .findByKeyword("benchmark", PageRequest.of(0, PAGE_SIZE)).getContent()));
+    }
+
+    private void printRowSizes() {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            List<?> columns = this.entityManager.createNativeQuery("select column_name from information_schema.columns"
+                    + " where table_schema = schema() and table_name = 'STUDY'").getResultList();
+            StringBuilder rowLength = new StringBuilder("0");
+            for(Object column : columns) {
+                rowLength.append(" + coalesce(octet_length(cast(").append(column).append(" as varchar)), 0)");
+            }
+            Number studyRow = (Number) this.entityManager
+                    .createNativeQuery("select avg(" + rowLength + ") from study").getSingleResult();
+            Number description = (Number) this.entityManager
+                    .createNativeQuery("select avg(octet_length(content)) from study_description").getSingleResult();
+            System.out.printf("%n스터디 한 행(상세 소개 제외): 평균 %d bytes, 상세 소개: 평균 %d bytes%n",
+                    studyRow.longValue(), description.longValue());
+        });
+    }
+
+    private void consume(Blackhole blackhole, List<Study> studies) {
+        for(Study study : studies) {
+            blackhole.consume(study.getTitle());
+            blackhole.consume(study.getShortDescription());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(StudyListQueryBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
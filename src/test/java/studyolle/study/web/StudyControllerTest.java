@@ -10,8 +10,12 @@ import org.springframework.transaction.annotation.Transactional;
 import studyolle.WithAccount;
 import studyolle.account.domain.Account;
 import studyolle.account.domain.AccountRepository;
+import studyolle.study.application.StudyService;
 import studyolle.study.domain.Study;
 import studyolle.study.domain.StudyRepository;
+import studyolle.study.dto.StudyMemberPage;
+
+import javax.persistence.EntityManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -35,6 +39,9 @@ class StudyControllerTest {
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @WithAccount("newStudyForm")
     @DisplayName("스터디 개설 폼 요청 성공")
@@ -67,7 +74,8 @@ class StudyControllerTest {
         // then
         assertThat(study).isNotNull();
         assertThat(study.getManagers()).contains(account);
-        assertThat(study.getMembers()).contains(account);
+        assertThat(this.studyRepository.countMember(study.getId(), account.getId())).isEqualTo(1);
+        assertThat(study.getMemberCount()).isEqualTo(1);
         assertThat(study.getPath()).isEqualTo(path);
     }
 
@@ -127,4 +135,85 @@ class StudyControllerTest {
                 .andExpect(model().attributeExists("account", "study"))
                 .andExpect(view().name("study/members"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithAccount("joinStudy")
+    @DisplayName("스터디 가입, 탈퇴 시 멤버 행과 멤버 수를 함께 변경")
+    void joinAndLeaveStudy() throws Exception {
+        // given
+        String path = "join-study-test";
+        Account manager = this.accountRepository.save(Account.builder()
+                .nickname("joinStudyManager")
+                .email("joinStudyManager@email.com")
+                .password("12345678")
+                .build());
+        Study study = this.studyRepository.save(Study.builder()
+                .path(path)
+                .title(path)
+                .shortDescription(path)
+                .fullDescription(path)
+                .build()
+                .addCreateMember(manager));
+        Account account = this.accountRepository.findByNickname("joinStudy").get();
+
+        // when - 두 번 가입해도 한 번만 추가
+        this.mockMvc.perform(get("/study/" + path + "/join"))
+                .andExpect(status().is3xxRedirection());
+        this.mockMvc.perform(get("/study/" + path + "/join"))
+                .andExpect(status().is3xxRedirection());
+        this.entityManager.clear();
+
+        // then
+        assertThat(this.studyRepository.countMember(study.getId(), account.getId())).isEqualTo(1);
+        assertThat(this.studyRepository.findById(study.getId()).get().getMemberCount()).isEqualTo(2);
+        this.mockMvc.perform(get("/study/" + path))
+                .andExpect(model().attribute("studyMember", true));
+
+        // when - 두 번 탈퇴해도 한 번만 삭제
+        this.mockMvc.perform(get("/study/" + path + "/leave"))
+                .andExpect(status().is3xxRedirection());
+        this.mockMvc.perform(get("/study/" + path + "/leave"))
+                .andExpect(status().is3xxRedirection());
+        this.entityManager.clear();
+
+        // then
+        assertThat(this.studyRepository.countMember(study.getId(), account.getId())).isEqualTo(0);
+        assertThat(this.studyRepository.findById(study.getId()).get().getMemberCount()).isEqualTo(1);
+        this.mockMvc.perform(get("/study/" + path))
+                .andExpect(model().attribute("studyMember", false));
+    }
+
+    @Test
+    @WithAccount("viewStudyMembersPage")
+    @DisplayName("스터디 멤버 목록을 계정 ID 순으로 페이징")
+    void viewStudyMembers_page() throws Exception {
+        // given
+        String path = "members-page-test";
+        스터디_개설_요청_성공(this.mockMvc, path);
+        Long studyId = this.studyRepository.findIdByPath(path).get();
+        for(int i = 0; i < StudyService.MEMBER_PAGE_SIZE; i++) {
+            Account member = this.accountRepository.save(Account.builder()
+                    .nickname("membersPage" + i)
+                    .email("membersPage" + i + "@email.com")
+                    .password("12345678")
+                    .build());
+            this.studyRepository.insertMember(studyId, member.getId());
+        }
+
+        // when
+        StudyMemberPage first = (StudyMemberPage) this.mockMvc.perform(get("/study/" + path + "/members"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModel().get("memberPage");
+        StudyMemberPage last = (StudyMemberPage) this.mockMvc.perform(get("/study/" + path + "/members")
+                    .param("after", String.valueOf(first.getNext())))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModel().get("memberPage");
+
+        // then
+        assertThat(first.getMembers()).hasSize(StudyService.MEMBER_PAGE_SIZE);
+        assertThat(first.getNext()).isNotNull();
+        assertThat(last.getMembers()).hasSize(1);
+        assertThat(last.getNext()).isNull();
+        assertThat(last.getMembers().get(0).getId()).isGreaterThan(first.getNext());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +22,7 @@ import studyolle.zone.domain.Zone;
 import studyolle.zone.domain.ZoneRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -130,7 +132,8 @@ class StudySettingControllerTest {
         String title = "new-title";
         String shortDescription = "short desc";
         String fullDescription = "full desc";
-        String testUpdateImage = "iii";
+        String testUpdateImage = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk"
+                + "YPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
         스터디_개설_요청_성공(this.mockMvc, path, title, shortDescription, fullDescription);
 
         // when - then
@@ -144,7 +147,16 @@ class StudySettingControllerTest {
         Study study = this.studyRepository.findByPath(path).get();
 
         // then
-        assertThat(study.getImage()).isEqualTo(testUpdateImage);
+        assertThat(study.getImageKey()).matches("[0-9a-f]{64}\\.png");
+        assertThat(study.getImage()).isEqualTo("/uploads/" + study.getImageKey());
+        String etag = this.mockMvc.perform(get(study.getImage()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + study.getImageKey() + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        this.mockMvc.perform(get(study.getImage()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
     }
 
 
@@ -212,7 +224,7 @@ class StudySettingControllerTest {
         this.mockMvc.perform(get("/study/" + path + "/settings/tags"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("study/settings/tags"))
-                .andExpect(model().attributeExists("account", "study", "tags", "whitelist"));
+                .andExpect(model().attributeExists("account", "study", "tags", "whitelistUrl"));
     }
 
     @Test
@@ -284,7 +296,7 @@ class StudySettingControllerTest {
         this.mockMvc.perform(get("/study/" + path + "/settings/zones"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("study/settings/zones"))
-                .andExpect(model().attributeExists("account", "study", "zones", "whitelist"));
+                .andExpect(model().attributeExists("account", "study", "zones", "whitelistUrl"));
     }
 
     @Test